@@ -20,6 +20,7 @@ import com.teamnest.teamnestapi.common.service.TenantRegisterService;
 import com.teamnest.teamnestapi.refreshtoken.dto.RefreshReqDTO;
 import com.teamnest.teamnestapi.security.jwt.JwtProperties;
 import com.teamnest.teamnestapi.security.service.AuthCookieService;
+import com.teamnest.teamnestapi.tenant.shard.TenantShardLookup;
 import com.teamnest.teamnestapi.user.dto.ForgotPasswordReqDTO;
 import com.teamnest.teamnestapi.user.dto.ResetPasswordReqDTO;
 import com.teamnest.teamnestapi.user.dto.UpdatePasswordReqDTO;
@@ -50,6 +51,7 @@ public class AuthController {
   private final AuthCookieService authCookieService;
   private final TenantRegisterService tenantRegisterService;
   private final JwtProperties jwtProperties;
+  private final TenantShardLookup tenantShardLookup;
 
   @Operation(summary = "Register a new tenant",
       description = "Creates a new tenant organization along with the owner user account. No authentication required.")
@@ -80,13 +82,17 @@ public class AuthController {
       @ApiResponse(responseCode = "400", description = "Validation error",
           content = @Content(schema = @Schema(implementation = AppApiResponse.class))),
       @ApiResponse(responseCode = "401", description = "Invalid credentials",
+          content = @Content(schema = @Schema(implementation = AppApiResponse.class))),
+      @ApiResponse(responseCode = "503",
+          description = "Login capacity exhausted, retry after the Retry-After header",
           content = @Content(schema = @Schema(implementation = AppApiResponse.class)))})
   @SecurityRequirement(name = "")
   @PostMapping("/login")
   public ResponseEntity<AppApiResponse<AuthResDTO>> login(
       @Valid @RequestBody LoginReqDTO loginReqDTO, HttpServletRequest request,
       HttpServletResponse response) {
-    AuthResDTO authResDto = authService.login(loginReqDTO);
+    AuthResDTO authResDto =
+        tenantShardLookup.callOnAnyShard(() -> authService.login(loginReqDTO));
 
     response.addHeader(HttpHeaders.SET_COOKIE, authCookieService
         .accessTokenCookie(authResDto.getAccessToken(), authResDto.getExpiresIn()).toString());
@@ -123,7 +129,8 @@ public class AuthController {
       throw new IllegalStateException("Refresh token is required");
     }
     RefreshReqDTO requestDto = new RefreshReqDTO(refreshToken);
-    AuthResDTO authResDto = authService.refresh(requestDto);
+    AuthResDTO authResDto =
+        tenantShardLookup.callOnAnyShard(() -> authService.refresh(requestDto));
 
     response.addHeader(HttpHeaders.SET_COOKIE, authCookieService
         .accessTokenCookie(authResDto.getAccessToken(), authResDto.getExpiresIn()).toString());
@@ -146,7 +153,7 @@ public class AuthController {
   @PostMapping("/forgot-password")
   public ResponseEntity<AppApiResponse<Void>> forgotPassword(
       @Valid @RequestBody ForgotPasswordReqDTO forgotPasswordReqDto, HttpServletRequest request) {
-    authService.forgotPassword(forgotPasswordReqDto);
+    tenantShardLookup.runOnAnyShard(() -> authService.forgotPassword(forgotPasswordReqDto));
     return ResponseBuilder.noContent("If an account exists, a password reset link has been sent",
         request);
   }
@@ -161,7 +168,7 @@ public class AuthController {
   @PostMapping("/reset-password")
   public ResponseEntity<AppApiResponse<Void>> resetPassword(
       @Valid @RequestBody ResetPasswordReqDTO resetPasswordReqDto, HttpServletRequest request) {
-    authService.resetPassword(resetPasswordReqDto);
+    tenantShardLookup.runOnAnyShard(() -> authService.resetPassword(resetPasswordReqDto));
     return ResponseBuilder.noContent("Password reset successful", request);
   }
 
@@ -213,11 +220,15 @@ public class AuthController {
 
 
   @Operation(summary = "Logout",
-      description = "Logs out the current user by clearing access and refresh token cookies.")
+      description = "Logs out the current user by revoking the refresh token and the current "
+          + "access token, and clearing the access and refresh token cookies.")
   @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Logout successful")})
   @PostMapping("/logout")
   public ResponseEntity<AppApiResponse<Void>> logout(HttpServletRequest request,
-      HttpServletResponse response) {
+      HttpServletResponse response, Authentication authentication) {
+    String refreshToken = authCookieService.extractCookieValue(request,
+        jwtProperties.getCookie().getRefreshTokenName());
+    tenantShardLookup.runOnEachShard(() -> authService.logout(refreshToken, authentication));
 
     response.addHeader(HttpHeaders.SET_COOKIE,
         authCookieService.clearAccessTokenCookie().toString());
@@ -0,0 +1,95 @@
+package com.teamnest.teamnestapi.auth.job;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.teamnest.teamnestapi.refreshtoken.repository.RefreshTokenRepository;
+import com.teamnest.teamnestapi.tenant.shard.TenantShardLookup;
+import com.teamnest.teamnestapi.user.repository.PasswordResetTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deletes refresh and password-reset tokens that expired, were revoked or were used more than the
+ * retention period ago. Each batch commits on its own and skips rows locked by another node, so
+ * every instance can run the job without coordination.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.auth.token-purge", name = "enabled", havingValue = "true",
+    matchIfMissing = true)
+public class ExpiredTokenPurgeJob {
+
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final PasswordResetTokenRepository passwordResetTokenRepository;
+  private final TokenPurgeProperties properties;
+  private final TransactionTemplate transactionTemplate;
+  private final TenantShardLookup tenantShardLookup;
+  private final Counter refreshTokensDeleted;
+  private final Counter passwordResetTokensDeleted;
+  private final Timer purgeDuration;
+
+  public ExpiredTokenPurgeJob(RefreshTokenRepository refreshTokenRepository,
+      PasswordResetTokenRepository passwordResetTokenRepository, TokenPurgeProperties properties,
+      PlatformTransactionManager transactionManager, TenantShardLookup tenantShardLookup,
+      MeterRegistry meterRegistry) {
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.passwordResetTokenRepository = passwordResetTokenRepository;
+    this.properties = properties;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.tenantShardLookup = tenantShardLookup;
+    this.refreshTokensDeleted = Counter.builder("auth.token.purge.deleted")
+        .tag("table", "refresh_tokens").register(meterRegistry);
+    this.passwordResetTokensDeleted = Counter.builder("auth.token.purge.deleted")
+        .tag("table", "password_reset_tokens").register(meterRegistry);
+    this.purgeDuration = Timer.builder("auth.token.purge.duration").register(meterRegistry);
+  }
+
+  @Scheduled(initialDelayString = "${app.auth.token-purge.initial-delay:PT1M}",
+      fixedDelayString = "${app.auth.token-purge.interval:PT15M}")
+  public void purge() {
+    tenantShardLookup.runOnEachShard(this::purgeShard);
+  }
+
+  private void purgeShard() {
+    long start = System.nanoTime();
+    Instant cutoff = Instant.now().minus(properties.getRetention());
+
+    int refreshDeleted = purgeInBatches(
+        batchSize -> refreshTokenRepository.deleteExpiredOrRevokedBefore(cutoff, batchSize));
+    int resetDeleted = purgeInBatches(
+        batchSize -> passwordResetTokenRepository.deleteExpiredOrUsedBefore(cutoff, batchSize));
+
+    refreshTokensDeleted.increment(refreshDeleted);
+    passwordResetTokensDeleted.increment(resetDeleted);
+    long elapsedNanos = System.nanoTime() - start;
+    purgeDuration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+    if (refreshDeleted > 0 || resetDeleted > 0) {
+      log.info("Purged {} refresh tokens and {} password reset tokens in {} ms", refreshDeleted,
+          resetDeleted, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+  }
+
+  private int purgeInBatches(IntUnaryOperator deleteBatch) {
+    int batchSize = properties.getBatchSize();
+    int total = 0;
+    for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+      Integer deleted = transactionTemplate.execute(status -> deleteBatch.applyAsInt(batchSize));
+      int deletedRows = deleted == null ? 0 : deleted;
+      total += deletedRows;
+      if (deletedRows < batchSize) {
+        break;
+      }
+    }
+    return total;
+  }
+
+}
@@ -0,0 +1,18 @@
+package com.teamnest.teamnestapi.auth.job;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.auth.token-purge")
+public class TokenPurgeProperties {
+
+  private boolean enabled = true;
+  private Duration retention = Duration.ofDays(7);
+  private int batchSize = 500;
+  private int maxBatchesPerRun = 200;
+
+}
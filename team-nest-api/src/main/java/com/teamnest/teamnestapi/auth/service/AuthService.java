@@ -24,7 +24,7 @@ public interface AuthService {
 
   UserInfoResDTO updateUserInfo(UserInfoReqDTO userInfoReqDto, Authentication authentication);
 
-  void logout(String refreshToken);
+  void logout(String refreshToken, Authentication authentication);
 
   void updatePassword(UpdatePasswordReqDTO updatePasswordReqDto, Authentication authentication);
 
@@ -1,33 +1,37 @@
 package com.teamnest.teamnestapi.auth.service.impl;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.security.SecureRandom;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Base64;
-import java.util.HexFormat;
+import java.util.UUID;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.teamnest.teamnestapi.auth.dto.AuthResDTO;
 import com.teamnest.teamnestapi.auth.dto.LoginReqDTO;
 import com.teamnest.teamnestapi.auth.service.AuthService;
+import com.teamnest.teamnestapi.common.entity.UuidV7Generator;
 import com.teamnest.teamnestapi.common.enums.Status;
 import com.teamnest.teamnestapi.common.service.EmailService;
 import com.teamnest.teamnestapi.refreshtoken.dto.RefreshReqDTO;
-import com.teamnest.teamnestapi.refreshtoken.entity.RefreshToken;
+import com.teamnest.teamnestapi.refreshtoken.dto.RotatedRefreshToken;
 import com.teamnest.teamnestapi.refreshtoken.service.RefreshTokenService;
+import com.teamnest.teamnestapi.security.dto.AuthPrincipal;
 import com.teamnest.teamnestapi.security.dto.UserDetailsDTO;
+import com.teamnest.teamnestapi.security.jwt.AccessTokenDenylist;
+import com.teamnest.teamnestapi.security.password.PasswordHashingExecutor;
+import com.teamnest.teamnestapi.security.service.AuthPrincipalCache;
 import com.teamnest.teamnestapi.security.service.JwtService;
 import com.teamnest.teamnestapi.tenant.dto.TenantResDTO;
-import com.teamnest.teamnestapi.tenant.mapper.TenantMapper;
+import com.teamnest.teamnestapi.tenant.exception.TenantShardMissException;
 import com.teamnest.teamnestapi.tenant.service.TenantService;
+import com.teamnest.teamnestapi.tenant.shard.TenantShardLookup;
 import com.teamnest.teamnestapi.user.dto.ForgotPasswordReqDTO;
 import com.teamnest.teamnestapi.user.dto.ResetPasswordReqDTO;
 import com.teamnest.teamnestapi.user.dto.UpdatePasswordReqDTO;
@@ -37,6 +41,7 @@ import com.teamnest.teamnestapi.user.entity.PasswordResetToken;
 import com.teamnest.teamnestapi.user.entity.User;
 import com.teamnest.teamnestapi.user.mapper.UserMapper;
 import com.teamnest.teamnestapi.user.repository.PasswordResetTokenRepository;
+import com.teamnest.teamnestapi.user.service.PasswordResetTokenCodec;
 import com.teamnest.teamnestapi.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 
@@ -44,8 +49,6 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
 
-  private static final SecureRandom SECURE_RANDOM = new SecureRandom();
-
   @Value("${app.auth.password-reset-token-expiration-minutes}")
   private long passwordResetTokenExpirationMinutes;
 
@@ -53,24 +56,33 @@ public class AuthServiceImpl implements AuthService {
   private final JwtService jwtService;
   private final UserService userService;
   private final PasswordResetTokenRepository passwordResetTokenRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final PasswordHashingExecutor passwordHashingExecutor;
   private final EmailService emailService;
   private final TenantService tenantService;
   private final RefreshTokenService refreshTokenService;
-  private final TenantMapper tenantMapper;
   private final UserMapper userMapper;
+  private final AuthPrincipalCache authPrincipalCache;
+  private final AccessTokenDenylist accessTokenDenylist;
+  private final TenantShardLookup tenantShardLookup;
+  private final PasswordResetTokenCodec passwordResetTokenCodec;
 
   @Override
   public AuthResDTO login(LoginReqDTO loginReqDTO) {
-    Authentication authentication = authenticationManager.authenticate(
-        new UsernamePasswordAuthenticationToken(loginReqDTO.email(), loginReqDTO.password()));
+    Authentication authentication;
+    try {
+      authentication = authenticationManager.authenticate(
+          new UsernamePasswordAuthenticationToken(loginReqDTO.email(), loginReqDTO.password()));
+    } catch (UsernameNotFoundException | BadCredentialsException ex) {
+      throw new TenantShardMissException(ex);
+    }
 
     UserDetailsDTO userDetails = (UserDetailsDTO) authentication.getPrincipal();
     assert userDetails != null;
-    User user = userDetails.getUser();
+    AuthPrincipal principal = userDetails.getPrincipal();
+    tenantShardLookup.requireTenantShard(principal.tenantId());
 
-    String accessToken = jwtService.generateAccessToken(user);
-    String refreshToken = refreshTokenService.createRefreshToken(user);
+    String accessToken = jwtService.generateAccessToken(principal);
+    String refreshToken = refreshTokenService.createRefreshToken(principal.id());
 
     return new AuthResDTO(accessToken, refreshToken, "Bearer",
         jwtService.getAccessTokenTtlSeconds(), jwtService.getRefreshTokenTtlSeconds());
@@ -79,15 +91,12 @@ public class AuthServiceImpl implements AuthService {
   @Transactional
   @Override
   public AuthResDTO refresh(RefreshReqDTO refreshReqDto) {
-    RefreshToken existingToken =
-        refreshTokenService.getValidRefreshToken(refreshReqDto.refreshToken());
+    RotatedRefreshToken rotated =
+        refreshTokenService.rotateRefreshToken(refreshReqDto.refreshToken());
 
-    User user = existingToken.getUser();
+    String accessToken = jwtService.generateAccessToken(rotated.principal());
 
-    String accessToken = jwtService.generateAccessToken(user);
-    String newRefreshToken = refreshTokenService.updateRefreshToken(existingToken);
-
-    return new AuthResDTO(accessToken, newRefreshToken, "Bearer",
+    return new AuthResDTO(accessToken, rotated.refreshToken(), "Bearer",
         jwtService.getAccessTokenTtlSeconds(), jwtService.getRefreshTokenTtlSeconds());
   }
 
@@ -95,31 +104,35 @@ public class AuthServiceImpl implements AuthService {
   @Transactional
   @Override
   public void forgotPassword(ForgotPasswordReqDTO forgotPasswordReqDto) {
-    User user = userService.getUserByEmail(forgotPasswordReqDto.email());
+    User user;
+    try {
+      user = userService.getUserByEmail(forgotPasswordReqDto.email());
+    } catch (UsernameNotFoundException ex) {
+      throw new TenantShardMissException(ex);
+    }
     if (user.getStatus() != Status.ACTIVE) {
       return;
     }
+    tenantShardLookup.requireTenantShard(user.getTenantId());
 
     Instant now = Instant.now();
     passwordResetTokenRepository.markAllUnusedTokensAsUsedByUserId(user.getId(), now);
 
-    String rawToken = generateSecureToken();
-    PasswordResetToken passwordResetToken = new PasswordResetToken();
-    passwordResetToken.setUser(user);
-    passwordResetToken.setTokenHash(hashToken(rawToken));
-    passwordResetToken
-        .setExpiresAt(now.plus(Duration.ofMinutes(passwordResetTokenExpirationMinutes)));
-    passwordResetTokenRepository.save(passwordResetToken);
+    UUID tokenId = UuidV7Generator.nextUuid();
+    passwordResetTokenRepository.insertToken(tokenId, user.getId(),
+        passwordResetTokenCodec.hashFor(tokenId),
+        now.plus(Duration.ofMinutes(passwordResetTokenExpirationMinutes)));
 
-    emailService.sendPasswordResetEmail(user.getEmail(), user.getFirstName(), rawToken);
+    emailService.sendPasswordResetEmail(user.getEmail(), user.getFirstName(), tokenId);
   }
 
   @Transactional
   @Override
   public void resetPassword(ResetPasswordReqDTO resetPasswordReqDto) {
-    PasswordResetToken passwordResetToken =
-        passwordResetTokenRepository.findByTokenHash(hashToken(resetPasswordReqDto.token()))
-            .orElseThrow(() -> new IllegalStateException("Reset token is invalid or expired"));
+    String tokenHash = passwordResetTokenCodec.hash(resetPasswordReqDto.token());
+    PasswordResetToken passwordResetToken = passwordResetTokenRepository.findByTokenHash(tokenHash)
+        .orElseThrow(() -> new TenantShardMissException(
+            new IllegalStateException("Reset token is invalid or expired")));
 
     Instant now = Instant.now();
     if (passwordResetToken.getUsedAt() != null || passwordResetToken.getExpiresAt().isBefore(now)) {
@@ -130,9 +143,11 @@ public class AuthServiceImpl implements AuthService {
     if (user.getStatus() != Status.ACTIVE) {
       throw new IllegalStateException("User account is inactive");
     }
+    tenantShardLookup.requireTenantShard(user.getTenantId());
 
-    user.setPassword(passwordEncoder.encode(resetPasswordReqDto.newPassword()));
+    user.setPassword(passwordHashingExecutor.encode(resetPasswordReqDto.newPassword()));
     userService.save(user);
+    authPrincipalCache.evict(user.getEmail());
     passwordResetTokenRepository.markAllUnusedTokensAsUsedByUserId(user.getId(), now);
   }
 
@@ -140,16 +155,16 @@ public class AuthServiceImpl implements AuthService {
   public UserInfoResDTO getCurrentUser(Authentication authentication) {
     User user = userService.getUserByEmail(authentication.getName());
     UserInfoResDTO userInfoResDto = userMapper.toUserInfoResDto(user);
-    TenantResDTO tenantResDto =
-        tenantMapper.toTenantResDto(tenantService.getTenantByTenantId(user.getTenantId()));
+    TenantResDTO tenantResDto = tenantService.getTenantResDto(user.getTenantId());
     userInfoResDto.setTenant(tenantResDto);
 
     return userInfoResDto;
   }
 
   @Override
-  public void logout(String refreshToken) {
+  public void logout(String refreshToken, Authentication authentication) {
     refreshTokenService.revokeIfExists(refreshToken);
+    denyAccessToken(authentication);
   }
 
 
@@ -161,6 +176,7 @@ public class AuthServiceImpl implements AuthService {
     userMapper.toUser(userInfoReqDto, user);
 
     userService.save(user);
+    authPrincipalCache.evict(authentication.getName());
     return userMapper.toUserInfoResDto(user);
   }
 
@@ -169,26 +185,20 @@ public class AuthServiceImpl implements AuthService {
   public void updatePassword(UpdatePasswordReqDTO updatePasswordReqDto,
       Authentication authentication) {
     User user = userService.getUserByEmail(authentication.getName());
-    if (!passwordEncoder.matches(updatePasswordReqDto.currentPassword(), user.getPassword())) {
+    if (!passwordHashingExecutor.matches(updatePasswordReqDto.currentPassword(),
+        user.getPassword())) {
       throw new IllegalArgumentException("Current password is incorrect");
     }
-    user.setPassword(passwordEncoder.encode(updatePasswordReqDto.newPassword()));
+    user.setPassword(passwordHashingExecutor.encode(updatePasswordReqDto.newPassword()));
     userService.save(user);
+    authPrincipalCache.evict(user.getEmail());
+    denyAccessToken(authentication);
   }
 
-  private String generateSecureToken() {
-    byte[] tokenBytes = new byte[32];
-    SECURE_RANDOM.nextBytes(tokenBytes);
-    return Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
-  }
-
-  private String hashToken(String token) {
-    try {
-      MessageDigest digest = MessageDigest.getInstance("SHA-256");
-      byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
-      return HexFormat.of().formatHex(hash);
-    } catch (NoSuchAlgorithmException exception) {
-      throw new IllegalStateException("Failed to process reset token", exception);
+  private void denyAccessToken(Authentication authentication) {
+    if (authentication instanceof JwtAuthenticationToken jwtAuthentication) {
+      Jwt jwt = jwtAuthentication.getToken();
+      accessTokenDenylist.deny(jwt.getId(), jwt.getExpiresAt());
     }
   }
 }
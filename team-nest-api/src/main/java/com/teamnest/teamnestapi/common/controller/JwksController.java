@@ -1,29 +1,48 @@
 package com.teamnest.teamnestapi.common.controller;
 
-import java.util.Map;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
-import com.nimbusds.jose.jwk.JWKSet;
+import com.teamnest.teamnestapi.security.jwt.JwksDocument;
+import com.teamnest.teamnestapi.security.jwt.JwtProperties;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import lombok.RequiredArgsConstructor;
 
 @RestController
-@RequiredArgsConstructor
 @Tag(name = "JWKS", description = "JSON Web Key Set endpoint for JWT token verification")
 public class JwksController {
 
-  private final JWKSet jwkSet;
+  private final JwksDocument jwksDocument;
+  private final CacheControl cacheControl;
+
+  public JwksController(JwksDocument jwksDocument, JwtProperties jwtProperties) {
+    this.jwksDocument = jwksDocument;
+    this.cacheControl = CacheControl.maxAge(jwtProperties.getJwks().getMaxAge()).cachePublic();
+  }
 
   @Operation(summary = "Get JSON Web Key Set",
       description = "Returns the public keys used to verify JWT tokens issued by this server. "
           + "This endpoint follows the JWKS standard (RFC 7517).")
-  @ApiResponse(responseCode = "200", description = "JWKS returned successfully")
+  @ApiResponses(
+      value = {@ApiResponse(responseCode = "200", description = "JWKS returned successfully"),
+          @ApiResponse(responseCode = "304", description = "JWKS unchanged since the given ETag")})
   @SecurityRequirement(name = "")
-  @GetMapping("/.well-known/jwks.json")
-  public Map<String, Object> keys() {
-    return jwkSet.toPublicJWKSet().toJSONObject();
+  @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<byte[]> keys(
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    if (jwksDocument.matches(ifNoneMatch)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(jwksDocument.getEtag())
+          .cacheControl(cacheControl).build();
+    }
+    return ResponseEntity.ok().eTag(jwksDocument.getEtag()).cacheControl(cacheControl)
+        .contentType(MediaType.APPLICATION_JSON).body(jwksDocument.getBody());
   }
 }
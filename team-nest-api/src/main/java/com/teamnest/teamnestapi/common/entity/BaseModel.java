@@ -10,8 +10,6 @@ import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 import lombok.Getter;
@@ -24,7 +22,7 @@ import lombok.Setter;
 public abstract class BaseModel {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @UuidV7
   private UUID id;
 
   @CreatedDate
@@ -25,4 +25,7 @@ public class PermissionLookup extends BaseModel {
   @Enumerated(EnumType.STRING)
   private PermissionModule moduleKey;
 
+  @Column(name = "bit_index", nullable = false, unique = true, updatable = false)
+  private Integer bitIndex;
+
 }
@@ -0,0 +1,46 @@
+package com.teamnest.teamnestapi.common.entity;
+
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * RFC 9562 UUIDv7: a 48-bit millisecond timestamp followed by a 12-bit counter and 62 random
+ * bits. The counter keeps ids from this JVM strictly increasing even within one millisecond, so
+ * inserts append to the right-hand edge of the primary key index instead of splitting random
+ * pages, and Hibernate can batch inserts because it no longer needs the database to assign ids.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+  private static final AtomicLong LAST_TIMESTAMP_AND_COUNTER = new AtomicLong();
+
+  public static UUID nextUuid() {
+    long candidate = System.currentTimeMillis() << 12;
+    // A full counter borrows the next millisecond rather than going backwards
+    long timestampAndCounter =
+        LAST_TIMESTAMP_AND_COUNTER.updateAndGet(last -> Math.max(last + 1, candidate));
+
+    long mostSigBits = (timestampAndCounter >>> 12) << 16 | 0x7000L
+        | (timestampAndCounter & 0xFFFL);
+    long leastSigBits =
+        ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+  @Override
+  public Object generate(SharedSessionContractImplementor session, Object owner,
+      Object currentValue, EventType eventType) {
+    return nextUuid();
+  }
+
+  @Override
+  public EnumSet<EventType> getEventTypes() {
+    return EventTypeSets.INSERT_ONLY;
+  }
+
+}
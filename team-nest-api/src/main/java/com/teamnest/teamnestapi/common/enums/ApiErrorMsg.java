@@ -12,15 +12,21 @@ public enum ApiErrorMsg {
           "Forbidden access."), INTERNAL_SERVER_ERROR(
               "An unexpected error occurred on the server."), VALIDATION_ERROR(
                   "Validation failed. Please check the errors field."), INVALID_REQUEST_BODY(
-                      "Request body is missing or contains invalid JSON."),
+                      "Request body is missing or contains invalid JSON."), INVALID_CURSOR(
+                          "Pagination cursor is invalid."),
 
   // Additional error messages for tenant-related issues
 
   TENANT_NAME_ALREADY_EXISTS("Tenant name %s already exists."), TENANT_NOT_RESOLVED(
-      "Tenant could not be resolved from the request."),
+      "Tenant could not be resolved from the request."), TENANT_MOVING(
+          "This workspace is being moved. Please retry shortly."),
 
   // Additional error messages for user-related issues
-  USER_ALREADY_EXISTS("User with email '%s' already exists.");
+  USER_ALREADY_EXISTS("User with email '%s' already exists."),
+
+  // Additional error messages for authentication capacity issues
+  LOGIN_CAPACITY_EXCEEDED("Too many sign-in attempts are being processed. Please retry shortly."),
+  TOO_MANY_REQUESTS("Too many requests. Please retry later.");
 
   private final String message;
 }
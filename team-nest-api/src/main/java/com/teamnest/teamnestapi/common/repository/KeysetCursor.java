@@ -0,0 +1,77 @@
+package com.teamnest.teamnestapi.common.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import com.teamnest.teamnestapi.common.entity.BaseModel;
+import com.teamnest.teamnestapi.exception.InvalidCursorException;
+
+/**
+ * Opaque cursor for keyset pagination over {@code (created_at, id)}, newest first. Each page seeks
+ * past the last row of the previous one instead of skipping an offset, so deep pages cost the same
+ * as the first and no {@code COUNT(*)} is run.
+ */
+public final class KeysetCursor {
+
+  public static final Sort SORT =
+      Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+  public static final int MAX_SIZE = 100;
+
+  private static final char SEPARATOR = ',';
+
+  private KeysetCursor() {
+    // Private constructor to prevent instantiation
+  }
+
+  /**
+   * Decodes a cursor from a previous page. A missing or blank cursor starts at the first page.
+   */
+  public static KeysetScrollPosition decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return ScrollPosition.keyset();
+    }
+    try {
+      String value =
+          new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = value.indexOf(SEPARATOR);
+      if (separator < 0) {
+        throw new InvalidCursorException();
+      }
+      Map<String, Object> keys = new LinkedHashMap<>();
+      keys.put("createdAt", Instant.parse(value.substring(0, separator)));
+      keys.put("id", UUID.fromString(value.substring(separator + 1)));
+      return ScrollPosition.forward(keys);
+    } catch (IllegalArgumentException | DateTimeParseException ex) {
+      throw new InvalidCursorException();
+    }
+  }
+
+  /**
+   * Clamps a requested page size to {@code 1..MAX_SIZE}.
+   */
+  public static int size(int requested) {
+    return Math.clamp(requested, 1, MAX_SIZE);
+  }
+
+  /**
+   * Returns the cursor for the page after {@code window}, or {@code null} on the last page.
+   */
+  public static String next(Window<? extends BaseModel> window) {
+    if (!window.hasNext() || window.isEmpty()) {
+      return null;
+    }
+    BaseModel last = window.getContent().getLast();
+    String value = last.getCreatedAt().toString() + SEPARATOR + last.getId();
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -2,8 +2,10 @@ package com.teamnest.teamnestapi.common.repository;
 
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import com.teamnest.teamnestapi.common.entity.PermissionLookup;
 
-public interface PermissionLookRepository extends JpaRepository<PermissionLookup, UUID> {
+public interface PermissionLookRepository
+    extends JpaRepository<PermissionLookup, UUID>, JpaSpecificationExecutor<PermissionLookup> {
 
 }
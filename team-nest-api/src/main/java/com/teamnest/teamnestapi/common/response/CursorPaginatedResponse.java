@@ -0,0 +1,56 @@
+package com.teamnest.teamnestapi.common.response;
+
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Window;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.teamnest.teamnestapi.common.repository.KeysetCursor;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"success", "message", "timestamp", "path", "apiVersion", "data", "pagination"})
+@Getter
+@Setter
+@Schema(
+    description = "Standard API response wrapper for cursor-paginated endpoints, providing consistent structure for success responses with cursor metadata.")
+public class CursorPaginatedResponse<T> {
+
+  @Schema(description = "Indicates whether the API call was successful or resulted in an error.",
+      example = "true")
+  private boolean success;
+
+  @Schema(description = "A human-readable message providing more details about the API response.",
+      example = "Request processed successfully.")
+  private String message;
+
+  @Schema(description = "The timestamp when the API response was generated.",
+      example = "2023-10-01T12:00:00Z")
+  private Instant timestamp = Instant.now();
+
+  @Schema(description = "The path of the API endpoint that was called.", example = "/api/users")
+  private String path;
+
+  @Schema(description = "The list of items returned by the API call.")
+  private List<T> data;
+
+  @Schema(description = "Metadata about the cursor pagination of the results.")
+  private CursorPaginationMeta pagination;
+
+  /**
+   * {@code nextCursor} is taken from the entity window before its content is mapped to DTOs.
+   */
+  public static <T> CursorPaginatedResponse<T> of(String message, String path, Window<T> window,
+      String nextCursor) {
+    CursorPaginatedResponse<T> response = new CursorPaginatedResponse<>();
+    response.setSuccess(true);
+    response.setMessage(message);
+    response.setPath(path);
+    response.setData(window.getContent());
+    response.setPagination(
+        CursorPaginationMeta.from(window, nextCursor, KeysetCursor.SORT.toString()));
+    return response;
+  }
+}
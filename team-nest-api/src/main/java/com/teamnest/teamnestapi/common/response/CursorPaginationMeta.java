@@ -0,0 +1,36 @@
+package com.teamnest.teamnestapi.common.response;
+
+import org.springframework.data.domain.Window;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+@JsonPropertyOrder({"size", "hasNext", "nextCursor", "sortBy"})
+@Getter
+@Setter
+@Schema(
+    description = "Metadata about a cursor-paginated API response. Pass nextCursor back as the cursor parameter to fetch the following page.")
+public class CursorPaginationMeta {
+  @Schema(description = "The number of items in this page.", example = "10")
+  private int size;
+
+  @Schema(description = "Indicates whether more items follow this page.", example = "true")
+  private boolean hasNext;
+
+  @Schema(description = "Opaque cursor for the next page; absent on the last page.",
+      example = "MjAyNS0wMS0wMVQwMDowMDowMFosMDE5NDNhNjQtLi4u")
+  private String nextCursor;
+
+  @Schema(description = "The order of the results.", example = "createdAt: DESC, id: DESC")
+  private String sortBy;
+
+  public static CursorPaginationMeta from(Window<?> window, String nextCursor, String sortBy) {
+    CursorPaginationMeta meta = new CursorPaginationMeta();
+    meta.setSize(window.size());
+    meta.setHasNext(window.hasNext());
+    meta.setNextCursor(nextCursor);
+    meta.setSortBy(sortBy);
+    return meta;
+  }
+}
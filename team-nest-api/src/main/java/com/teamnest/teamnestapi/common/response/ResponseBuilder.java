@@ -3,6 +3,8 @@ package com.teamnest.teamnestapi.common.response;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -42,6 +44,13 @@ public final class ResponseBuilder {
     return ResponseEntity.ok(response);
   }
 
+  public static <T> ResponseEntity<CursorPaginatedResponse<T>> cursorPaginated(Window<T> window,
+      String nextCursor, String message, HttpServletRequest request) {
+    CursorPaginatedResponse<T> response =
+        CursorPaginatedResponse.of(message, request.getRequestURI(), window, nextCursor);
+    return ResponseEntity.ok(response);
+  }
+
   public static <T> ResponseEntity<AppApiResponse<T>> error(String message, HttpStatus status,
       HttpServletRequest request) {
 
@@ -75,4 +84,11 @@ public final class ResponseBuilder {
       HttpServletRequest request) {
     return error(message, HttpStatus.UNAUTHORIZED, request);
   }
+
+  public static <T> ResponseEntity<AppApiResponse<T>> serviceUnavailable(String message,
+      long retryAfterSeconds, HttpServletRequest request) {
+    AppApiResponse<T> response = AppApiResponse.error(message, request.getRequestURI(), null);
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds)).body(response);
+  }
 }
@@ -1,7 +1,11 @@
 package com.teamnest.teamnestapi.common.service;
 
+import java.util.UUID;
+
 public interface EmailService {
   void sendWelcomeEmail(String toEmail, String name);
 
-  void sendPasswordResetEmail(String toEmail, String name, String resetToken);
+  void sendPasswordResetEmail(String toEmail, String name, UUID resetTokenId);
+
+  void sendInviteEmail(String toEmail, String name, UUID resetTokenId);
 }
@@ -1,10 +1,20 @@
 package com.teamnest.teamnestapi.common.service;
 
 import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import com.teamnest.teamnestapi.common.entity.PermissionLookup;
 
 public interface PermissionLookupService {
 
   List<PermissionLookup> getAllPermissions();
 
+  Page<PermissionLookup> getPermissions(Specification<PermissionLookup> spec, Pageable pageable);
+
+  Window<PermissionLookup> scrollPermissions(Specification<PermissionLookup> spec,
+      ScrollPosition position, int size);
+
 }
@@ -1,71 +1,82 @@
 package com.teamnest.teamnestapi.common.service.impl;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.time.Year;
+import java.util.Map;
+import java.util.UUID;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import com.teamnest.teamnestapi.common.service.EmailService;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import com.teamnest.teamnestapi.email.entity.EmailOutboxMessage;
+import com.teamnest.teamnestapi.email.job.EmailOutboxDispatcher;
+import com.teamnest.teamnestapi.email.repository.EmailOutboxRepository;
+import com.teamnest.teamnestapi.user.service.PasswordResetTokenCodec;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Queues emails in the caller's transaction; {@link EmailOutboxDispatcher} sends them once it
+ * commits, so SMTP latency never holds a request or a database connection.
+ */
 @Service
 @RequiredArgsConstructor
 public class EmailServiceImpl implements EmailService {
 
-  @Value("${spring.mail.properties.mail.smtp.from}")
-  private String fromEmail;
-
   @Value("${app.frontend.login-url}")
   private String frontendLoginUrl;
 
-  @Value("${app.frontend.reset-password-url}")
-  private String frontendResetPasswordUrl;
-
-  private final JavaMailSender mailSender;
-  private final TemplateEngine templateEngine;
+  private final EmailOutboxRepository emailOutboxRepository;
+  private final EmailOutboxDispatcher emailOutboxDispatcher;
 
+  @Transactional
   @Override
   public void sendWelcomeEmail(String toEmail, String name) {
-    Context context = new Context();
-    context.setVariable("name", name);
-    context.setVariable("currentYear", Year.now().getValue());
-
-    sendTemplatedEmail(toEmail, "Welcome to Team Nest!", "welcome-email", context);
+    enqueue(toEmail, "Welcome to Team Nest!", "welcome-email",
+        Map.of("name", name, "currentYear", Year.now().getValue()));
   }
 
+  @Transactional
   @Override
-  public void sendPasswordResetEmail(String toEmail, String name, String resetToken) {
-    String encodedToken = URLEncoder.encode(resetToken, StandardCharsets.UTF_8);
-    String resetUrl = frontendResetPasswordUrl + "?token=" + encodedToken;
-
-    Context context = new Context();
-    context.setVariable("name", name);
-    context.setVariable("currentYear", Year.now().getValue());
-    context.setVariable("resetUrl", resetUrl);
+  public void sendPasswordResetEmail(String toEmail, String name, UUID resetTokenId) {
+    // Only the id is queued; the dispatcher derives the link when it renders the email
+    enqueue(toEmail, "Reset your Team Nest password", "password-reset-email",
+        Map.of("name", name, "currentYear", Year.now().getValue(),
+            PasswordResetTokenCodec.TOKEN_ID_VARIABLE, resetTokenId.toString()));
+  }
 
-    sendTemplatedEmail(toEmail, "Reset your Team Nest password", "password-reset-email", context);
+  @Transactional
+  @Override
+  public void sendInviteEmail(String toEmail, String name, UUID resetTokenId) {
+    enqueue(toEmail, "You have been invited to Team Nest", "invite-email",
+        Map.of("name", name, "currentYear", Year.now().getValue(),
+            PasswordResetTokenCodec.TOKEN_ID_VARIABLE, resetTokenId.toString()));
   }
 
-  private void sendTemplatedEmail(String toEmail, String subject, String templateName,
-      Context context) {
-    String process = templateEngine.process(templateName, context);
-    MimeMessage mimeMessage = mailSender.createMimeMessage();
-    MimeMessageHelper helper = new MimeMessageHelper(mimeMessage);
+  private void enqueue(String toEmail, String subject, String templateName,
+      Map<String, Object> templateVariables) {
+    EmailOutboxMessage message = new EmailOutboxMessage();
+    message.setRecipient(toEmail);
+    message.setSubject(subject);
+    message.setTemplateName(templateName);
+    message.getTemplateVariables().putAll(templateVariables);
+    emailOutboxRepository.save(message);
 
-    try {
-      helper.setFrom(fromEmail);
-      helper.setTo(toEmail);
-      helper.setSubject(subject);
-      helper.setText(process, true);
-      mailSender.send(mimeMessage);
-    } catch (MessagingException e) {
-      throw new RuntimeException("Failed to send email");
+    // One early dispatch per transaction, however many messages it queues
+    if (TransactionSynchronizationManager.hasResource(this)) {
+      return;
     }
+    TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        emailOutboxDispatcher.dispatchSoon();
+      }
+
+      @Override
+      public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(EmailServiceImpl.this);
+      }
+    });
   }
 }
@@ -1,8 +1,14 @@
 package com.teamnest.teamnestapi.common.service.impl;
 
 import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import com.teamnest.teamnestapi.common.entity.PermissionLookup;
+import com.teamnest.teamnestapi.common.repository.KeysetCursor;
 import com.teamnest.teamnestapi.common.repository.PermissionLookRepository;
 import com.teamnest.teamnestapi.common.service.PermissionLookupService;
 import lombok.RequiredArgsConstructor;
@@ -17,4 +23,17 @@ public class PermissionLookupServiceImpl implements PermissionLookupService {
   public List<PermissionLookup> getAllPermissions() {
     return permissionLookRepository.findAll();
   }
+
+  @Override
+  public Page<PermissionLookup> getPermissions(Specification<PermissionLookup> spec,
+      Pageable pageable) {
+    return permissionLookRepository.findAll(spec, pageable);
+  }
+
+  @Override
+  public Window<PermissionLookup> scrollPermissions(Specification<PermissionLookup> spec,
+      ScrollPosition position, int size) {
+    return permissionLookRepository.findBy(spec,
+        query -> query.sortBy(KeysetCursor.SORT).limit(size).scroll(position));
+  }
 }
@@ -7,7 +7,6 @@ import com.teamnest.teamnestapi.common.dto.TenantRegistrationResDto;
 import com.teamnest.teamnestapi.common.mapper.CommonMapper;
 import com.teamnest.teamnestapi.common.service.EmailService;
 import com.teamnest.teamnestapi.common.service.TenantRegisterService;
-import com.teamnest.teamnestapi.permission.service.PermissionService;
 import com.teamnest.teamnestapi.tenant.context.TenantContext;
 import com.teamnest.teamnestapi.tenant.entity.Tenant;
 import com.teamnest.teamnestapi.tenant.mapper.TenantMapper;
@@ -24,7 +23,6 @@ public class TenantRegisterServiceImpl implements TenantRegisterService {
   private final TenantService tenantService;
   private final UserService userService;
   private final EmailService emailService;
-  private final PermissionService permissionService;
   private final CommonMapper commonMapper;
   private final TenantMapper tenantMapper;
   private final UserMapper userMapper;
@@ -35,24 +33,21 @@ public class TenantRegisterServiceImpl implements TenantRegisterService {
       TenantRegistrationReqDto tenantRegistrationReqDto) {
     Tenant tenant = tenantMapper.toTenant(tenantRegistrationReqDto.getTenantInfo(), new Tenant());
     Tenant savedTenant = tenantService.createTenant(tenant);
-    TenantContext.setTenant(savedTenant.getId());
 
     try {
-      permissionService.createDefaultPermissionsForTenant();
+      return TenantContext.callWithTenant(savedTenant.getId(), () -> {
+        User user = userMapper.toUser(tenantRegistrationReqDto.getOwnerInfo(), new User());
+        user.setTenantId(savedTenant.getId());
+        String rawPassword = tenantRegistrationReqDto.getOwnerInfo().getPassword();
+        user.setPassword(rawPassword);
+        User savedUser = userService.createUser(user);
 
-      User user = userMapper.toUser(tenantRegistrationReqDto.getOwnerInfo(), new User());
-      user.setTenantId(savedTenant.getId());
-      String rawPassword = tenantRegistrationReqDto.getOwnerInfo().getPassword();
-      user.setPassword(rawPassword);
-      User savedUser = userService.createUser(user);
+        emailService.sendWelcomeEmail(savedUser.getEmail(), savedUser.getFirstName());
 
-      emailService.sendWelcomeEmail(savedUser.getEmail(), savedUser.getFirstName());
-
-      return commonMapper.toTenantRegistrationResDto(savedTenant, savedUser);
+        return commonMapper.toTenantRegistrationResDto(savedTenant, savedUser);
+      });
     } catch (Exception e) {
       throw new RuntimeException("Failed to register tenant: " + e.getMessage());
-    } finally {
-      TenantContext.clear();
     }
   }
 }
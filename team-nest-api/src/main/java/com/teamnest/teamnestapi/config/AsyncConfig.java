@@ -0,0 +1,13 @@
+package com.teamnest.teamnestapi.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * {@code @Async} runs on Boot's application task executor, which applies
+ * {@link com.teamnest.teamnestapi.tenant.context.TenantTaskDecorator} so tasks keep their tenant.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
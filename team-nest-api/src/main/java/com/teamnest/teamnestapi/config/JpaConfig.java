@@ -1,6 +1,9 @@
 package com.teamnest.teamnestapi.config;
 
+import com.teamnest.teamnestapi.tenant.schema.TenantSchemaDirectory;
+import com.teamnest.teamnestapi.tenant.shard.TenantShardDirectory;
 import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -8,8 +11,14 @@ import org.springframework.transaction.PlatformTransactionManager;
 @Configuration
 public class JpaConfig {
   @Bean
-  public PlatformTransactionManager transactionManager(EntityManagerFactory emf) {
+  public PlatformTransactionManager transactionManager(EntityManagerFactory emf,
+      ObjectProvider<TenantShardDirectory> tenantShardDirectory,
+      ObjectProvider<TenantSchemaDirectory> tenantSchemaDirectory) {
     // Replace Spring's default JpaTransactionManager with our tenant-aware one
-    return new TenantAwareJpaTransactionManager(emf);
+    TenantAwareJpaTransactionManager transactionManager =
+        new TenantAwareJpaTransactionManager(emf);
+    tenantShardDirectory.ifAvailable(transactionManager::setTenantShardDirectory);
+    tenantSchemaDirectory.ifAvailable(transactionManager::setTenantSchemaDirectory);
+    return transactionManager;
   }
 }
@@ -0,0 +1,13 @@
+package com.teamnest.teamnestapi.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import com.teamnest.teamnestapi.auth.job.TokenPurgeProperties;
+import com.teamnest.teamnestapi.email.job.EmailOutboxProperties;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({TokenPurgeProperties.class, EmailOutboxProperties.class})
+public class SchedulingConfig {
+}
@@ -1,9 +1,14 @@
 package com.teamnest.teamnestapi.config;
 
 import com.teamnest.teamnestapi.tenant.context.TenantContext;
+import com.teamnest.teamnestapi.tenant.exception.TenantMovingException;
+import com.teamnest.teamnestapi.tenant.schema.TenantSchemaDirectory;
+import com.teamnest.teamnestapi.tenant.shard.TenantShardDirectory;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Session;
+import org.hibernate.SessionFactory;
 import org.jspecify.annotations.NonNull;
 import org.springframework.orm.jpa.EntityManagerHolder;
 import org.springframework.orm.jpa.JpaTransactionManager;
@@ -15,12 +20,56 @@ import java.util.UUID;
 @Slf4j
 public class TenantAwareJpaTransactionManager extends JpaTransactionManager {
 
+  private TenantShardDirectory tenantShardDirectory;
+  private TenantSchemaDirectory tenantSchemaDirectory;
+
   public TenantAwareJpaTransactionManager(EntityManagerFactory emf) {
     super(emf);
   }
 
+  public void setTenantShardDirectory(TenantShardDirectory tenantShardDirectory) {
+    this.tenantShardDirectory = tenantShardDirectory;
+  }
+
+  public void setTenantSchemaDirectory(TenantSchemaDirectory tenantSchemaDirectory) {
+    this.tenantSchemaDirectory = tenantSchemaDirectory;
+  }
+
+  @Override
+  protected @NonNull EntityManager createEntityManagerForTransaction() {
+    // Tenants with a dedicated schema get a session bound to it; everyone else shares public
+    UUID tenantId = TenantContext.getTenantId();
+    if (tenantSchemaDirectory != null && tenantId != null) {
+      String schema = tenantSchemaDirectory.schemaOf(tenantId);
+      if (!TenantSchemaDirectory.SHARED_SCHEMA.equals(schema)) {
+        log.debug("Opening session on schema {} — tenantId={}", schema, tenantId);
+        return obtainEntityManagerFactory().unwrap(SessionFactory.class).withOptions()
+            .tenantIdentifier(schema).openSession();
+      }
+    }
+    return super.createEntityManagerForTransaction();
+  }
+
   @Override
   protected void doBegin(@NonNull Object transaction, @NonNull TransactionDefinition definition) {
+    // 0. With sharding, the connection opened below is routed to the tenant's shard; refuse
+    //    writes while the tenant is being copied to another one
+    if (tenantShardDirectory != null && !definition.isReadOnly()) {
+      UUID movingTenantId = TenantContext.getTenantId();
+      if (movingTenantId != null && tenantShardDirectory.isMoving(movingTenantId)) {
+        throw new TenantMovingException(tenantShardDirectory.getCacheTtl().toSeconds());
+      }
+    }
+
+    //    Likewise while its rows are being copied into a dedicated schema
+    if (tenantSchemaDirectory != null && !definition.isReadOnly()) {
+      UUID provisioningTenantId = TenantContext.getTenantId();
+      if (provisioningTenantId != null
+          && tenantSchemaDirectory.isProvisioning(provisioningTenantId)) {
+        throw new TenantMovingException(tenantSchemaDirectory.getCacheTtl().toSeconds());
+      }
+    }
+
     // 1. Let Spring do its normal transaction setup first
     //    (opens Session, binds it to thread, starts transaction)
     super.doBegin(transaction, definition);
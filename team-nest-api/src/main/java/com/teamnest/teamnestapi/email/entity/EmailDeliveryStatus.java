@@ -0,0 +1,5 @@
+package com.teamnest.teamnestapi.email.entity;
+
+public enum EmailDeliveryStatus {
+  PENDING, DEAD
+}
@@ -0,0 +1,53 @@
+package com.teamnest.teamnestapi.email.entity;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import com.teamnest.teamnestapi.common.entity.BaseModel;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * An email queued in the sender's transaction. Rows are deleted once delivered; messages that
+ * exhaust their attempts are kept as {@link EmailDeliveryStatus#DEAD} for inspection.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "email_outbox")
+public class EmailOutboxMessage extends BaseModel {
+
+  @Column(name = "recipient", nullable = false, length = 250)
+  private String recipient;
+
+  @Column(name = "subject", nullable = false, length = 250)
+  private String subject;
+
+  @Column(name = "template_name", nullable = false, length = 100)
+  private String templateName;
+
+  @JdbcTypeCode(SqlTypes.JSON)
+  @Column(name = "template_variables", nullable = false)
+  private Map<String, Object> templateVariables = new HashMap<>();
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "delivery_status", nullable = false, length = 20)
+  private EmailDeliveryStatus deliveryStatus = EmailDeliveryStatus.PENDING;
+
+  @Column(name = "attempts", nullable = false)
+  private int attempts;
+
+  @Column(name = "next_attempt_at", nullable = false)
+  private Instant nextAttemptAt = Instant.now();
+
+  @Column(name = "last_error", length = 1000)
+  private String lastError;
+
+}
@@ -0,0 +1,235 @@
+package com.teamnest.teamnestapi.email.job;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import com.teamnest.teamnestapi.email.entity.EmailDeliveryStatus;
+import com.teamnest.teamnestapi.email.entity.EmailOutboxMessage;
+import com.teamnest.teamnestapi.email.repository.EmailOutboxRepository;
+import com.teamnest.teamnestapi.tenant.shard.TenantShardLookup;
+import com.teamnest.teamnestapi.user.service.PasswordResetTokenCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends queued emails outside of any request. Messages are claimed in a short transaction that
+ * pushes their next attempt past the claim timeout, so SMTP never runs while a row lock or pooled
+ * connection is held and several nodes can dispatch at once. Failed sends back off exponentially
+ * until {@code max-attempts}, after which the message is dead-lettered with its template
+ * variables dropped.
+ *
+ * <p>Each claimed batch is rendered on a small pool and handed to the mail sender in one call,
+ * which delivers the whole batch over a single SMTP connection.
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher implements DisposableBean {
+
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  private final EmailOutboxRepository emailOutboxRepository;
+  private final JavaMailSender mailSender;
+  private final TemplateEngine templateEngine;
+  private final EmailOutboxProperties properties;
+  private final TransactionTemplate transactionTemplate;
+  private final TenantShardLookup tenantShardLookup;
+  private final PasswordResetTokenCodec passwordResetTokenCodec;
+  private final String fromEmail;
+  private final ThreadPoolExecutor renderExecutor;
+  private final Counter sent;
+  private final Counter failed;
+  private final Counter deadLettered;
+
+  public EmailOutboxDispatcher(EmailOutboxRepository emailOutboxRepository,
+      JavaMailSender mailSender, TemplateEngine templateEngine, EmailOutboxProperties properties,
+      PlatformTransactionManager transactionManager, TenantShardLookup tenantShardLookup,
+      PasswordResetTokenCodec passwordResetTokenCodec,
+      @Value("${spring.mail.properties.mail.smtp.from}") String fromEmail,
+      MeterRegistry meterRegistry) {
+    this.emailOutboxRepository = emailOutboxRepository;
+    this.mailSender = mailSender;
+    this.templateEngine = templateEngine;
+    this.properties = properties;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.tenantShardLookup = tenantShardLookup;
+    this.passwordResetTokenCodec = passwordResetTokenCodec;
+    this.fromEmail = fromEmail;
+    this.renderExecutor = new ThreadPoolExecutor(properties.getRenderThreads(),
+        properties.getRenderThreads(), 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+        new CustomizableThreadFactory("email-render-"));
+    this.sent = Counter.builder("email.outbox.delivered").tag("outcome", "sent")
+        .register(meterRegistry);
+    this.failed = Counter.builder("email.outbox.delivered").tag("outcome", "retry")
+        .register(meterRegistry);
+    this.deadLettered = Counter.builder("email.outbox.delivered").tag("outcome", "dead")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Called after a message commits so it goes out without waiting for the next poll.
+   */
+  @Async
+  public void dispatchSoon() {
+    dispatchDue();
+  }
+
+  @Scheduled(initialDelayString = "${app.email.outbox.initial-delay:PT10S}",
+      fixedDelayString = "${app.email.outbox.poll-interval:PT10S}")
+  public void dispatchDue() {
+    tenantShardLookup.runOnEachShard(this::dispatchShard);
+  }
+
+  private void dispatchShard() {
+    List<EmailOutboxMessage> claimed;
+    do {
+      claimed = claimDue();
+      deliver(claimed);
+    } while (claimed.size() == properties.getBatchSize());
+  }
+
+  private List<EmailOutboxMessage> claimDue() {
+    Instant now = Instant.now();
+    List<EmailOutboxMessage> claimed = transactionTemplate.execute(status -> {
+      List<EmailOutboxMessage> due =
+          emailOutboxRepository.lockDue(now, properties.getBatchSize());
+      due.forEach(message -> {
+        message.setAttempts(message.getAttempts() + 1);
+        message.setNextAttemptAt(now.plus(properties.getClaimTimeout()));
+      });
+      return due;
+    });
+    return claimed == null ? List.of() : claimed;
+  }
+
+  private void deliver(List<EmailOutboxMessage> messages) {
+    Map<MimeMessage, EmailOutboxMessage> rendered = render(messages);
+    if (rendered.isEmpty()) {
+      return;
+    }
+
+    Map<Object, Exception> failures = Map.of();
+    try {
+      mailSender.send(rendered.keySet().toArray(MimeMessage[]::new));
+    } catch (MailSendException ex) {
+      failures = ex.getFailedMessages();
+      if (failures.isEmpty()) {
+        // Nothing says which messages failed, so none of them count as sent
+        rendered.values().forEach(message -> recordFailure(message, ex));
+        return;
+      }
+    } catch (MailException ex) {
+      // Connecting or authenticating failed, so nothing in the batch was sent
+      rendered.values().forEach(message -> recordFailure(message, ex));
+      return;
+    }
+
+    List<UUID> delivered = new ArrayList<>(rendered.size());
+    for (Map.Entry<MimeMessage, EmailOutboxMessage> entry : rendered.entrySet()) {
+      Exception failure = failures.get(entry.getKey());
+      if (failure != null) {
+        recordFailure(entry.getValue(), failure);
+      } else {
+        delivered.add(entry.getValue().getId());
+      }
+    }
+    if (!delivered.isEmpty()) {
+      transactionTemplate
+          .executeWithoutResult(status -> emailOutboxRepository.deleteAllByIdInBatch(delivered));
+      sent.increment(delivered.size());
+    }
+  }
+
+  private Map<MimeMessage, EmailOutboxMessage> render(List<EmailOutboxMessage> messages) {
+    List<Future<MimeMessage>> futures = messages.stream()
+        .map(message -> renderExecutor.submit(() -> toMimeMessage(message))).toList();
+    Map<MimeMessage, EmailOutboxMessage> rendered = new LinkedHashMap<>();
+    for (int i = 0; i < messages.size(); i++) {
+      try {
+        rendered.put(futures.get(i).get(), messages.get(i));
+      } catch (ExecutionException ex) {
+        recordFailure(messages.get(i), ex.getCause() instanceof Exception cause ? cause : ex);
+      } catch (InterruptedException ex) {
+        // Unsent messages are claimed again once their claim times out
+        Thread.currentThread().interrupt();
+        return Map.of();
+      }
+    }
+    return rendered;
+  }
+
+  private MimeMessage toMimeMessage(EmailOutboxMessage message) throws MessagingException {
+    Map<String, Object> variables = new HashMap<>(message.getTemplateVariables());
+    if (variables.get(PasswordResetTokenCodec.TOKEN_ID_VARIABLE) instanceof String tokenId) {
+      variables.put("resetUrl", passwordResetTokenCodec.resetUrlFor(UUID.fromString(tokenId)));
+    }
+    Context context = new Context();
+    context.setVariables(variables);
+    String body = templateEngine.process(message.getTemplateName(), context);
+
+    MimeMessage mimeMessage = mailSender.createMimeMessage();
+    MimeMessageHelper helper = new MimeMessageHelper(mimeMessage);
+    helper.setFrom(fromEmail);
+    helper.setTo(message.getRecipient());
+    helper.setSubject(message.getSubject());
+    helper.setText(body, true);
+    return mimeMessage;
+  }
+
+  private void recordFailure(EmailOutboxMessage message, Exception ex) {
+    String error = String.valueOf(ex.getMessage());
+    message.setLastError(error.length() > MAX_ERROR_LENGTH
+        ? error.substring(0, MAX_ERROR_LENGTH) : error);
+    if (message.getAttempts() >= properties.getMaxAttempts()) {
+      message.setDeliveryStatus(EmailDeliveryStatus.DEAD);
+      // Kept only for inspection, so nothing the email was rendered from outlives it
+      message.getTemplateVariables().clear();
+      deadLettered.increment();
+      log.warn("Email {} to {} dead-lettered after {} attempts", message.getId(),
+          message.getRecipient(), message.getAttempts(), ex);
+    } else {
+      message.setNextAttemptAt(Instant.now().plus(backoff(message.getAttempts())));
+      failed.increment();
+      log.info("Email {} failed on attempt {}, retrying", message.getId(), message.getAttempts());
+    }
+    transactionTemplate.executeWithoutResult(status -> emailOutboxRepository.save(message));
+  }
+
+  @Override
+  public void destroy() {
+    renderExecutor.shutdown();
+  }
+
+  private Duration backoff(int attempts) {
+    Duration backoff =
+        properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+    return backoff.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : backoff;
+  }
+
+}
@@ -0,0 +1,21 @@
+package com.teamnest.teamnestapi.email.job;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.email.outbox")
+public class EmailOutboxProperties {
+
+  private int batchSize = 50;
+  private int renderThreads = 2;
+  private int maxAttempts = 8;
+  private Duration initialBackoff = Duration.ofSeconds(30);
+  private Duration maxBackoff = Duration.ofHours(1);
+  // A claimed message is retried after this long if its dispatcher dies mid-send
+  private Duration claimTimeout = Duration.ofMinutes(5);
+
+}
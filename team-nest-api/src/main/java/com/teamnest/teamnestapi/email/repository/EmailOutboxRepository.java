@@ -0,0 +1,21 @@
+package com.teamnest.teamnestapi.email.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import com.teamnest.teamnestapi.email.entity.EmailOutboxMessage;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, UUID> {
+
+  @Query(value = "SELECT * FROM email_outbox WHERE delivery_status = 'PENDING' "
+      + "AND next_attempt_at <= :now ORDER BY next_attempt_at LIMIT :batchSize "
+      + "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+  List<EmailOutboxMessage> lockDue(@Param("now") Instant now,
+      @Param("batchSize") int batchSize);
+
+}
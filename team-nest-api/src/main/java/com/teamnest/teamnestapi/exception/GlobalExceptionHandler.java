@@ -29,6 +29,12 @@ public class GlobalExceptionHandler {
     return ResponseBuilder.error(ex.getMessage(), ex.getStatusCode(), request);
   }
 
+  @ExceptionHandler(ServiceUnavailableException.class)
+  public ResponseEntity<AppApiResponse<Void>> handleServiceUnavailable(
+      ServiceUnavailableException ex, HttpServletRequest request) {
+    return ResponseBuilder.serviceUnavailable(ex.getMessage(), ex.getRetryAfterSeconds(), request);
+  }
+
   @ExceptionHandler(HttpMessageNotReadableException.class)
   public ResponseEntity<AppApiResponse<Void>> handleUnreadableBody(
       HttpMessageNotReadableException ex, HttpServletRequest request) {
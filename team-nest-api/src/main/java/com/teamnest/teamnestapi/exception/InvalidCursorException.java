@@ -0,0 +1,10 @@
+package com.teamnest.teamnestapi.exception;
+
+import org.springframework.http.HttpStatus;
+import com.teamnest.teamnestapi.common.enums.ApiErrorMsg;
+
+public class InvalidCursorException extends ApiException {
+  public InvalidCursorException() {
+    super(ApiErrorMsg.INVALID_CURSOR.getMessage(), HttpStatus.BAD_REQUEST);
+  }
+}
@@ -0,0 +1,15 @@
+package com.teamnest.teamnestapi.exception;
+
+import org.springframework.http.HttpStatus;
+import lombok.Getter;
+
+@Getter
+public class ServiceUnavailableException extends ApiException {
+  private final long retryAfterSeconds;
+
+  public ServiceUnavailableException(String message, long retryAfterSeconds) {
+    super(message, HttpStatus.SERVICE_UNAVAILABLE);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+}
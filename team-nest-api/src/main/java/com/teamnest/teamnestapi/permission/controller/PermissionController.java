@@ -1,15 +1,18 @@
 package com.teamnest.teamnestapi.permission.controller;
 
-import com.teamnest.teamnestapi.permission.entity.Permission;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import com.teamnest.teamnestapi.common.entity.PermissionLookup;
+import com.teamnest.teamnestapi.common.repository.KeysetCursor;
+import com.teamnest.teamnestapi.common.response.CursorPaginatedResponse;
 import com.teamnest.teamnestapi.common.response.PaginatedResponse;
 import com.teamnest.teamnestapi.common.response.ResponseBuilder;
 import com.teamnest.teamnestapi.permission.dto.PermissionResDTO;
@@ -51,4 +54,24 @@ public class PermissionController {
 
     return ResponseBuilder.paginated(page, "permissions fetched successfully", request);
   }
+
+  @GetMapping(params = "cursor")
+  @Operation(summary = "List permissions with cursor pagination",
+      description = "Opt-in alternative to offset paging, selected by sending a cursor parameter (empty for the first page). Results are ordered newest first and each response carries the cursor for the next page, so deep pages stay fast and no total count is computed.")
+  @ApiResponse(responseCode = "200", description = "Successfully retrieved a page of permissions")
+  public ResponseEntity<CursorPaginatedResponse<PermissionResDTO>> scrollPermissions(
+      @Parameter(description = "Partial name match (case-insensitive)") @RequestParam(
+          required = false) String name,
+      @Parameter(description = "Cursor from the previous page; empty for the first page")
+      @RequestParam(required = false) String cursor,
+      @Parameter(description = "Page size, at most 100") @RequestParam(
+          defaultValue = "10") int size,
+      HttpServletRequest request) {
+
+    Window<PermissionLookup> window = permissionService.scrollPermissions(name,
+        KeysetCursor.decode(cursor), KeysetCursor.size(size));
+
+    return ResponseBuilder.cursorPaginated(window.map(permissionMapper::toDTO),
+        KeysetCursor.next(window), "permissions fetched successfully", request);
+  }
 }
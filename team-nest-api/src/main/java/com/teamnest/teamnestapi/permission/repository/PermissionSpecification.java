@@ -1,9 +1,8 @@
 package com.teamnest.teamnestapi.permission.repository;
 
-import java.util.UUID;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
-import com.teamnest.teamnestapi.permission.entity.Permission;
+import com.teamnest.teamnestapi.common.entity.PermissionLookup;
 
 public final class PermissionSpecification {
 
@@ -14,7 +13,7 @@ public final class PermissionSpecification {
   /**
    * Filter by name — case-insensitive partial match (SQL LIKE '%value%')
    */
-  public static Specification<Permission> hasName(String name) {
+  public static Specification<PermissionLookup> hasName(String name) {
     return (root, query, criteriaBuilder) -> {
       if (!StringUtils.hasText(name))
         return null; // null = "no filter"
@@ -23,7 +22,7 @@ public final class PermissionSpecification {
     };
   }
 
-  public static Specification<Permission> buildFilter(String name) {
+  public static Specification<PermissionLookup> buildFilter(String name) {
     return Specification.where(hasName(name));
   }
 
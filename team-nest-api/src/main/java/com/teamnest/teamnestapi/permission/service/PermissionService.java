@@ -2,12 +2,13 @@ package com.teamnest.teamnestapi.permission.service;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import com.teamnest.teamnestapi.permission.entity.Permission;
-
-import java.util.List;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import com.teamnest.teamnestapi.common.entity.PermissionLookup;
 
 public interface PermissionService {
-  void createDefaultPermissionsForTenant();
 
-  Page<Permission> getPermissions(String name, Pageable pageable);
+  Page<PermissionLookup> getPermissions(String name, Pageable pageable);
+
+  Window<PermissionLookup> scrollPermissions(String name, ScrollPosition position, int size);
 }
@@ -0,0 +1,16 @@
+package com.teamnest.teamnestapi.refreshtoken.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+import com.teamnest.teamnestapi.security.dto.AuthPrincipalRow;
+
+public interface RefreshTokenPrincipalRow extends AuthPrincipalRow {
+
+  UUID getTokenId();
+
+  String getVerifierHash();
+
+  Instant getExpiresAt();
+
+  Instant getRevokedAt();
+}
@@ -0,0 +1,6 @@
+package com.teamnest.teamnestapi.refreshtoken.dto;
+
+import com.teamnest.teamnestapi.security.dto.AuthPrincipal;
+
+public record RotatedRefreshToken(AuthPrincipal principal, String refreshToken) {
+}
@@ -18,9 +18,12 @@ import lombok.Setter;
 @Table(name = "refresh_tokens")
 public class RefreshToken extends BaseModel {
 
-  @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+  @Column(name = "token_hash", length = 64)
   private String tokenHash;
 
+  @Column(name = "verifier_hash", length = 64)
+  private String verifierHash;
+
   @ManyToOne(fetch = FetchType.LAZY, optional = false)
   @JoinColumn(name = "user_id", nullable = false)
   private User user;
@@ -1,15 +1,62 @@
 package com.teamnest.teamnestapi.refreshtoken.repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import com.teamnest.teamnestapi.common.enums.Status;
+import com.teamnest.teamnestapi.refreshtoken.dto.RefreshTokenPrincipalRow;
 import com.teamnest.teamnestapi.refreshtoken.entity.RefreshToken;
-import com.teamnest.teamnestapi.user.entity.User;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
   Optional<RefreshToken> findByTokenHash(String tokenHash);
 
-  List<RefreshToken> findByUserAndRevokedAtIsNull(User user);
+  @Query("SELECT t.id AS tokenId, t.verifierHash AS verifierHash, t.expiresAt AS expiresAt, "
+      + "t.revokedAt AS revokedAt, u.id AS userId, u.tenantId AS tenantId, u.email AS email, "
+      + "u.password AS password, u.status AS status, r.id AS roleId, r.name AS roleName, "
+      + "p.key AS permissionCode FROM RefreshToken t JOIN t.user u LEFT JOIN u.roles r "
+      + "LEFT JOIN r.permissions p WHERE t.id = :tokenId")
+  List<RefreshTokenPrincipalRow> findPrincipalRowsById(@Param("tokenId") UUID tokenId);
+
+  @Query("SELECT t.id AS tokenId, t.verifierHash AS verifierHash, t.expiresAt AS expiresAt, "
+      + "t.revokedAt AS revokedAt, u.id AS userId, u.tenantId AS tenantId, u.email AS email, "
+      + "u.password AS password, u.status AS status, r.id AS roleId, r.name AS roleName, "
+      + "p.key AS permissionCode FROM RefreshToken t JOIN t.user u LEFT JOIN u.roles r "
+      + "LEFT JOIN r.permissions p WHERE t.tokenHash = :tokenHash")
+  List<RefreshTokenPrincipalRow> findPrincipalRowsByTokenHash(@Param("tokenHash") String tokenHash);
+
+  @Modifying
+  @Query("UPDATE RefreshToken t SET t.verifierHash = :newVerifierHash, t.expiresAt = :expiresAt, "
+      + "t.lastModifiedAt = :now WHERE t.id = :tokenId AND t.verifierHash = :currentVerifierHash "
+      + "AND t.revokedAt IS NULL AND t.expiresAt > :now")
+  int rotateIfActive(@Param("tokenId") UUID tokenId,
+      @Param("currentVerifierHash") String currentVerifierHash,
+      @Param("newVerifierHash") String newVerifierHash, @Param("expiresAt") Instant expiresAt,
+      @Param("now") Instant now);
+
+  @Modifying
+  @Query("UPDATE RefreshToken t SET t.tokenHash = NULL, t.verifierHash = :newVerifierHash, "
+      + "t.expiresAt = :expiresAt, t.lastModifiedAt = :now WHERE t.tokenHash = :currentTokenHash "
+      + "AND t.revokedAt IS NULL AND t.expiresAt > :now")
+  int rotateLegacyIfActive(@Param("currentTokenHash") String currentTokenHash,
+      @Param("newVerifierHash") String newVerifierHash, @Param("expiresAt") Instant expiresAt,
+      @Param("now") Instant now);
+
+  @Modifying
+  @Query("UPDATE RefreshToken t SET t.revokedAt = :now, t.lastModifiedAt = :now, t.status = :status "
+      + "WHERE t.user.id = :userId AND t.revokedAt IS NULL")
+  int revokeAllActiveByUserId(@Param("userId") UUID userId, @Param("now") Instant now,
+      @Param("status") Status status);
+
+  @Modifying
+  @Query(value = "DELETE FROM refresh_tokens WHERE id IN (SELECT id FROM refresh_tokens "
+      + "WHERE expires_at < :cutoff OR revoked_at < :cutoff LIMIT :batchSize "
+      + "FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+  int deleteExpiredOrRevokedBefore(@Param("cutoff") Instant cutoff,
+      @Param("batchSize") int batchSize);
 
 }
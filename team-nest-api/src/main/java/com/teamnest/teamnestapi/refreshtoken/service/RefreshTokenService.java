@@ -1,15 +1,13 @@
 package com.teamnest.teamnestapi.refreshtoken.service;
 
-import com.teamnest.teamnestapi.refreshtoken.entity.RefreshToken;
-import com.teamnest.teamnestapi.user.entity.User;
+import java.util.UUID;
+import com.teamnest.teamnestapi.refreshtoken.dto.RotatedRefreshToken;
 
 public interface RefreshTokenService {
 
-  String createRefreshToken(User user);
+  String createRefreshToken(UUID userId);
 
-  String updateRefreshToken(RefreshToken existingToken);
-
-  RefreshToken getValidRefreshToken(String rawToken);
+  RotatedRefreshToken rotateRefreshToken(String rawToken);
 
   void revokeIfExists(String rawToken);
 }
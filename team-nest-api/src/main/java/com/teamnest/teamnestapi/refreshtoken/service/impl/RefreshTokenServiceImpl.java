@@ -1,6 +1,7 @@
 package com.teamnest.teamnestapi.refreshtoken.service.impl;
 
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
@@ -8,65 +9,106 @@ import java.time.Instant;
 import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.teamnest.teamnestapi.common.enums.Status;
+import com.teamnest.teamnestapi.refreshtoken.dto.RefreshTokenPrincipalRow;
+import com.teamnest.teamnestapi.refreshtoken.dto.RotatedRefreshToken;
 import com.teamnest.teamnestapi.refreshtoken.entity.RefreshToken;
 import com.teamnest.teamnestapi.refreshtoken.repository.RefreshTokenRepository;
 import com.teamnest.teamnestapi.refreshtoken.service.RefreshTokenService;
+import com.teamnest.teamnestapi.security.dto.AuthPrincipal;
 import com.teamnest.teamnestapi.security.jwt.JwtProperties;
+import com.teamnest.teamnestapi.tenant.exception.TenantShardMissException;
+import com.teamnest.teamnestapi.tenant.shard.TenantShardLookup;
 import com.teamnest.teamnestapi.user.entity.User;
-import lombok.RequiredArgsConstructor;
+import com.teamnest.teamnestapi.user.service.UserService;
 
+/**
+ * Refresh tokens are issued as {@code <token id>.<secret>}: the id selects the row by primary key
+ * and only an HMAC of the secret is stored. Tokens issued before this format (an opaque string
+ * stored as a SHA-256 hash) are still accepted and are converted on their next rotation.
+ */
 @Service
-@RequiredArgsConstructor
 public class RefreshTokenServiceImpl implements RefreshTokenService {
 
+  private static final char SELECTOR_SEPARATOR = '.';
+  private static final String VERIFIER_ALGORITHM = "HmacSHA256";
+
   private final RefreshTokenRepository refreshTokenRepository;
   private final JwtProperties jwtProperties;
+  private final UserService userService;
+  private final TenantShardLookup tenantShardLookup;
   private final SecureRandom secureRandom = new SecureRandom();
-
+  // Mac and MessageDigest are not thread-safe but cheap to create, so one is made per call;
+  // caching them per thread buys nothing on virtual threads
+  private final SecretKeySpec verifierKey;
+
+  public RefreshTokenServiceImpl(RefreshTokenRepository refreshTokenRepository,
+      JwtProperties jwtProperties, UserService userService,
+      TenantShardLookup tenantShardLookup) {
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.jwtProperties = jwtProperties;
+    this.userService = userService;
+    this.tenantShardLookup = tenantShardLookup;
+    this.verifierKey = new SecretKeySpec(
+        jwtProperties.getRefreshTokenSecret().getBytes(StandardCharsets.UTF_8), VERIFIER_ALGORITHM);
+  }
 
   @Transactional
   @Override
-  public String createRefreshToken(User user) {
+  public String createRefreshToken(UUID userId) {
+    refreshTokenRepository.revokeAllActiveByUserId(userId, Instant.now(), Status.INACTIVE);
 
-    revokeTokensForUser(user);
+    User user = userService.getReferenceById(userId);
 
-    String rawToken = generateRawToken();
+    String secret = generateSecret();
     RefreshToken refreshToken = new RefreshToken();
     refreshToken.setUser(user);
-    refreshToken.setTokenHash(hashToken(rawToken));
+    refreshToken.setVerifierHash(hashVerifier(secret));
     refreshToken
         .setExpiresAt(Instant.now().plusMillis(jwtProperties.getRefreshTokenExpirationMs()));
-    refreshTokenRepository.save(refreshToken);
-    return rawToken;
+    RefreshToken savedToken = refreshTokenRepository.save(refreshToken);
+    return formatToken(savedToken.getId(), secret);
   }
 
   @Transactional
   @Override
-  public String updateRefreshToken(RefreshToken existingToken) {
-    String rawToken = generateRawToken();
-    existingToken.setTokenHash(hashToken(rawToken));
-    existingToken
-        .setExpiresAt(Instant.now().plusMillis(jwtProperties.getRefreshTokenExpirationMs()));
-    existingToken.setRevokedAt(null);
-    refreshTokenRepository.save(existingToken);
-    return rawToken;
-  }
-
-  @Override
-  public RefreshToken getValidRefreshToken(String rawToken) {
-    String tokenHash = hashToken(rawToken);
-    RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(tokenHash)
-        .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+  public RotatedRefreshToken rotateRefreshToken(String rawToken) {
+    Selector selector = parseSelector(rawToken);
+    List<RefreshTokenPrincipalRow> rows = selector != null
+        ? refreshTokenRepository.findPrincipalRowsById(selector.tokenId())
+        : refreshTokenRepository.findPrincipalRowsByTokenHash(hashLegacyToken(rawToken));
+    if (rows.isEmpty()
+        || selector != null && !verifierMatches(selector.secret(), rows.getFirst().getVerifierHash())) {
+      throw new TenantShardMissException(new BadCredentialsException("Invalid refresh token"));
+    }
 
     Instant now = Instant.now();
-    if (refreshToken.isRevoked() || refreshToken.isExpired(now)) {
+    RefreshTokenPrincipalRow token = rows.getFirst();
+    if (token.getRevokedAt() != null || token.getExpiresAt().isBefore(now)) {
+      throw new BadCredentialsException("Refresh token expired or revoked");
+    }
+    AuthPrincipal principal = AuthPrincipal.fromRows(rows);
+    tenantShardLookup.requireTenantShard(principal.tenantId());
+
+    // The conditional update lets exactly one of several concurrent refreshes win
+    String newSecret = generateSecret();
+    String newVerifierHash = hashVerifier(newSecret);
+    Instant expiresAt = now.plusMillis(jwtProperties.getRefreshTokenExpirationMs());
+    int rotated = selector != null
+        ? refreshTokenRepository.rotateIfActive(token.getTokenId(), token.getVerifierHash(),
+            newVerifierHash, expiresAt, now)
+        : refreshTokenRepository.rotateLegacyIfActive(hashLegacyToken(rawToken), newVerifierHash,
+            expiresAt, now);
+    if (rotated == 0) {
       throw new BadCredentialsException("Refresh token expired or revoked");
     }
-    return refreshToken;
+    return new RotatedRefreshToken(principal, formatToken(token.getTokenId(), newSecret));
   }
 
   @Transactional
@@ -75,36 +117,75 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
     if (rawToken == null || rawToken.isBlank()) {
       return;
     }
-    String tokenHash = hashToken(rawToken);
-    Optional<RefreshToken> tokenOpt = refreshTokenRepository.findByTokenHash(tokenHash);
+    Selector selector = parseSelector(rawToken);
+    Optional<RefreshToken> tokenOpt = selector != null
+        ? refreshTokenRepository.findById(selector.tokenId())
+            .filter(token -> verifierMatches(selector.secret(), token.getVerifierHash()))
+        : refreshTokenRepository.findByTokenHash(hashLegacyToken(rawToken));
     tokenOpt.ifPresent(this::revoke);
   }
 
-  private void revokeTokensForUser(User user) {
-    List<RefreshToken> tokens = refreshTokenRepository.findByUserAndRevokedAtIsNull(user);
-    tokens.forEach(this::revoke);
-  }
-
   private void revoke(RefreshToken refreshToken) {
+    tenantShardLookup.requireNotMoving(refreshToken.getUser().getTenantId());
     refreshToken.setRevokedAt(Instant.now());
     refreshToken.setStatus(Status.INACTIVE);
     refreshTokenRepository.save(refreshToken);
   }
 
-  private String generateRawToken() {
-    byte[] randomBytes = new byte[64];
+  private String generateSecret() {
+    byte[] randomBytes = new byte[32];
     secureRandom.nextBytes(randomBytes);
     return Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
   }
 
+  private String formatToken(UUID tokenId, String secret) {
+    return tokenId.toString() + SELECTOR_SEPARATOR + secret;
+  }
+
+  private Selector parseSelector(String rawToken) {
+    int separator = rawToken.indexOf(SELECTOR_SEPARATOR);
+    if (separator < 0) {
+      return null;
+    }
+    try {
+      return new Selector(UUID.fromString(rawToken.substring(0, separator)),
+          rawToken.substring(separator + 1));
+    } catch (IllegalArgumentException ex) {
+      // Not a selector; fall through to the legacy lookup, which will not match
+      return null;
+    }
+  }
 
-  private String hashToken(String rawToken) {
+  private boolean verifierMatches(String secret, String storedVerifierHash) {
+    if (storedVerifierHash == null) {
+      return false;
+    }
+    return MessageDigest.isEqual(hashVerifier(secret).getBytes(StandardCharsets.US_ASCII),
+        storedVerifierHash.getBytes(StandardCharsets.US_ASCII));
+  }
+
+  private String hashVerifier(String secret) {
     try {
-      MessageDigest digest = MessageDigest.getInstance("SHA-256");
-      byte[] hash = digest.digest(rawToken.getBytes(StandardCharsets.UTF_8));
+      Mac mac = Mac.getInstance(VERIFIER_ALGORITHM);
+      mac.init(verifierKey);
+      byte[] hash = mac.doFinal(secret.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    } catch (GeneralSecurityException ex) {
+      throw new IllegalStateException("HmacSHA256 not available", ex);
+    }
+  }
+
+  private String hashLegacyToken(String rawToken) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256")
+          .digest(rawToken.getBytes(StandardCharsets.UTF_8));
       return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
     } catch (NoSuchAlgorithmException ex) {
       throw new IllegalStateException("SHA-256 not available", ex);
     }
   }
+
+
+  private record Selector(UUID tokenId, String secret) {
+  }
 }
@@ -3,6 +3,7 @@ package com.teamnest.teamnestapi.role.controller;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,11 +12,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import com.teamnest.teamnestapi.common.repository.KeysetCursor;
 import com.teamnest.teamnestapi.common.response.AppApiResponse;
+import com.teamnest.teamnestapi.common.response.CursorPaginatedResponse;
 import com.teamnest.teamnestapi.common.response.PaginatedResponse;
 import com.teamnest.teamnestapi.common.response.ResponseBuilder;
 import com.teamnest.teamnestapi.role.dto.RoleReqDTO;
 import com.teamnest.teamnestapi.role.dto.RoleResDTO;
+import com.teamnest.teamnestapi.role.entity.Role;
 import com.teamnest.teamnestapi.role.mapper.RoleMapper;
 import com.teamnest.teamnestapi.role.service.RoleService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -55,6 +59,28 @@ public class RoleController {
     return ResponseBuilder.paginated(page, "roles fetched successfully", request);
   }
 
+  @GetMapping(params = "cursor")
+  @Operation(summary = "List roles with cursor pagination",
+      description = "Opt-in alternative to offset paging, selected by sending a cursor parameter (empty for the first page). Results are ordered newest first and each response carries the cursor for the next page, so deep pages stay fast and no total count is computed.")
+  @ApiResponses(value = {@ApiResponse(responseCode = "200",
+      description = "Successfully retrieved a page of roles"),
+      @ApiResponse(responseCode = "400", description = "Invalid cursor")})
+  public ResponseEntity<CursorPaginatedResponse<RoleResDTO>> scrollRoles(
+      @Parameter(description = "Partial name match (case-insensitive)") @RequestParam(
+          required = false) String name,
+      @Parameter(description = "Cursor from the previous page; empty for the first page")
+      @RequestParam(required = false) String cursor,
+      @Parameter(description = "Page size, at most 100") @RequestParam(
+          defaultValue = "10") int size,
+      HttpServletRequest request) {
+
+    Window<Role> window =
+        roleService.scrollRoles(name, KeysetCursor.decode(cursor), KeysetCursor.size(size));
+
+    return ResponseBuilder.cursorPaginated(window.map(roleMapper::toDTO),
+        KeysetCursor.next(window), "roles fetched successfully", request);
+  }
+
   @PostMapping
   @Operation(summary = "Create a new role",
       description = "Create a new role with the provided details. The request body must include the name and code of the role.")
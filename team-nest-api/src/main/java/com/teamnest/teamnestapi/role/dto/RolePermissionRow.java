@@ -0,0 +1,10 @@
+package com.teamnest.teamnestapi.role.dto;
+
+import java.util.UUID;
+
+public interface RolePermissionRow {
+
+  UUID getRoleId();
+
+  String getPermissionCode();
+}
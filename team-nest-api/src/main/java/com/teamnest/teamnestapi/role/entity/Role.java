@@ -7,7 +7,7 @@ import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.FilterDef;
 import org.hibernate.annotations.ParamDef;
 import com.teamnest.teamnestapi.common.entity.BaseModel;
-import com.teamnest.teamnestapi.permission.entity.Permission;
+import com.teamnest.teamnestapi.common.entity.PermissionLookup;
 import com.teamnest.teamnestapi.tenant.context.TenantContext;
 import com.teamnest.teamnestapi.tenant.exception.TenantNotResolvedException;
 import com.teamnest.teamnestapi.user.entity.User;
@@ -55,7 +55,7 @@ public class Role extends BaseModel {
   @ManyToMany
   @JoinTable(name = "roles_permissions", joinColumns = @JoinColumn(name = "role_id"),
       inverseJoinColumns = @JoinColumn(name = "permission_id"))
-  private Set<Permission> permissions = new HashSet<>();
+  private Set<PermissionLookup> permissions = new HashSet<>();
 
   @ManyToMany(mappedBy = "roles")
   private Set<User> users = new HashSet<>();
@@ -1,10 +1,14 @@
 package com.teamnest.teamnestapi.role.repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import com.teamnest.teamnestapi.role.dto.RolePermissionRow;
 import com.teamnest.teamnestapi.role.entity.Role;
 import com.teamnest.teamnestapi.role.entity.RoleScope;
 
@@ -12,4 +16,11 @@ import com.teamnest.teamnestapi.role.entity.RoleScope;
 public interface RoleRepository extends JpaRepository<Role, UUID>, JpaSpecificationExecutor<Role> {
 
   Optional<Role> findByCodeAndScope(String code, RoleScope scope);
+
+  // Native so the tenant filter cannot hide platform roles
+  @Query(value = "SELECT r.id AS \"roleId\", p.key AS \"permissionCode\" FROM roles r "
+      + "LEFT JOIN roles_permissions rp ON rp.role_id = r.id "
+      + "LEFT JOIN permissions_lookup p ON p.id = rp.permission_id "
+      + "WHERE r.tenant_id = :tenantId OR r.tenant_id IS NULL", nativeQuery = true)
+  List<RolePermissionRow> findRolePermissionRows(@Param("tenantId") UUID tenantId);
 }
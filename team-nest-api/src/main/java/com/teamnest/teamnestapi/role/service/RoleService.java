@@ -2,6 +2,8 @@ package com.teamnest.teamnestapi.role.service;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import com.teamnest.teamnestapi.role.dto.RoleReqDTO;
 import com.teamnest.teamnestapi.role.entity.Role;
 
@@ -9,6 +11,8 @@ public interface RoleService {
 
   Page<Role> getRoles(String name, Pageable pageable);
 
+  Window<Role> scrollRoles(String name, ScrollPosition position, int size);
+
   Role getDefaultRole();
 
   Role create(RoleReqDTO roleReqDTO);
@@ -3,8 +3,11 @@ package com.teamnest.teamnestapi.role.service.impl;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import com.teamnest.teamnestapi.common.repository.KeysetCursor;
 import com.teamnest.teamnestapi.exception.ResourceNotFoundException;
 import com.teamnest.teamnestapi.role.dto.RoleReqDTO;
 import com.teamnest.teamnestapi.role.entity.Role;
@@ -13,6 +16,8 @@ import com.teamnest.teamnestapi.role.mapper.RoleMapper;
 import com.teamnest.teamnestapi.role.repository.RoleRepository;
 import com.teamnest.teamnestapi.role.repository.RoleSpecification;
 import com.teamnest.teamnestapi.role.service.RoleService;
+import com.teamnest.teamnestapi.security.permission.TenantPermissionSnapshots;
+import com.teamnest.teamnestapi.security.service.AuthPrincipalCache;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -24,6 +29,8 @@ public class RoleServiceImpl implements RoleService {
 
   private final RoleRepository roleRepository;
   private final RoleMapper roleMapper;
+  private final AuthPrincipalCache authPrincipalCache;
+  private final TenantPermissionSnapshots tenantPermissionSnapshots;
 
   @Override
   public Page<Role> getRoles(String name, Pageable pageable) {
@@ -32,6 +39,13 @@ public class RoleServiceImpl implements RoleService {
     return page;
   }
 
+  @Override
+  public Window<Role> scrollRoles(String name, ScrollPosition position, int size) {
+    Specification<Role> spec = RoleSpecification.buildFilter(name);
+    return roleRepository.findBy(spec,
+        query -> query.sortBy(KeysetCursor.SORT).limit(size).scroll(position));
+  }
+
   @Override
   public Role getDefaultRole() {
     Role defaultRole = roleRepository.findByCodeAndScope(defaultRoleCode, RoleScope.PLATFORM)
@@ -42,7 +56,14 @@ public class RoleServiceImpl implements RoleService {
   @Override
   public Role create(RoleReqDTO roleReqDTO) {
     Role role = roleMapper.toEntity(roleReqDTO, new Role());
-    return roleRepository.save(role);
+    Role savedRole = roleRepository.save(role);
+    authPrincipalCache.evictAll();
+    if (savedRole.getTenantId() != null) {
+      tenantPermissionSnapshots.invalidate(savedRole.getTenantId());
+    } else {
+      tenantPermissionSnapshots.invalidateAll();
+    }
+    return savedRole;
   }
 
 }
@@ -6,9 +6,10 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import com.teamnest.teamnestapi.security.password.PasswordHashingExecutor;
 import lombok.RequiredArgsConstructor;
 
 @Component
@@ -16,7 +17,8 @@ import lombok.RequiredArgsConstructor;
 public class AppUsernamePwdAuthenticationProvider implements AuthenticationProvider {
 
   private final UserDetailsService userDetailsService;
-  private final PasswordEncoder passwordEncoder;
+  private final UserDetailsPasswordService userDetailsPasswordService;
+  private final PasswordHashingExecutor passwordHashingExecutor;
 
   @Override
   public Authentication authenticate(Authentication authentication) throws AuthenticationException {
@@ -24,7 +26,11 @@ public class AppUsernamePwdAuthenticationProvider implements AuthenticationProvi
     String password = authentication.getCredentials().toString();
     UserDetails userDetails = userDetailsService.loadUserByUsername(username);
 
-    if (passwordEncoder.matches(password, userDetails.getPassword())) {
+    if (passwordHashingExecutor.matches(password, userDetails.getPassword())) {
+      if (passwordHashingExecutor.needsRehash(userDetails.getPassword())) {
+        passwordHashingExecutor.rehashInBackground(password,
+            encoded -> userDetailsPasswordService.updatePassword(userDetails, encoded));
+      }
       return new UsernamePasswordAuthenticationToken(userDetails, password,
           userDetails.getAuthorities());
     } else {
@@ -0,0 +1,21 @@
+package com.teamnest.teamnestapi.security.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import com.teamnest.teamnestapi.security.permission.TenantPermissionEvaluator;
+
+@Configuration
+@EnableMethodSecurity
+public class MethodSecurityConfig {
+
+  @Bean
+  MethodSecurityExpressionHandler methodSecurityExpressionHandler(
+      TenantPermissionEvaluator tenantPermissionEvaluator) {
+    DefaultMethodSecurityExpressionHandler handler = new DefaultMethodSecurityExpressionHandler();
+    handler.setPermissionEvaluator(tenantPermissionEvaluator);
+    return handler;
+  }
+}
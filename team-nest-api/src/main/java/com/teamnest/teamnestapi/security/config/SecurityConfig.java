@@ -1,5 +1,7 @@
 package com.teamnest.teamnestapi.security.config;
 
+import java.util.Map;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,11 +10,13 @@ import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
-import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
 import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
@@ -22,18 +26,35 @@ import com.teamnest.teamnestapi.exception.CustomBasicAuthenticationEntryPoint;
 import com.teamnest.teamnestapi.security.AppUsernamePwdAuthenticationProvider;
 import com.teamnest.teamnestapi.security.CookieOrHeaderBearerTokenResolver;
 import com.teamnest.teamnestapi.security.jwt.JwtProperties;
+import com.teamnest.teamnestapi.security.password.BCryptStrengthCalibrator;
+import com.teamnest.teamnestapi.security.password.PasswordHashingExecutor;
+import com.teamnest.teamnestapi.security.password.PasswordHashingProperties;
+import com.teamnest.teamnestapi.security.permission.PermissionCatalog;
+import com.teamnest.teamnestapi.security.permission.PermissionClaimAuthoritiesConverter;
+import com.teamnest.teamnestapi.security.permission.PermissionSnapshotProperties;
+import com.teamnest.teamnestapi.security.ratelimit.AuthRateLimitFilter;
+import com.teamnest.teamnestapi.security.ratelimit.AuthRateLimitProperties;
+import com.teamnest.teamnestapi.security.service.AuthPrincipalCacheProperties;
 import com.teamnest.teamnestapi.tenant.filter.TenantFilter;
+import com.teamnest.teamnestapi.tenant.quota.TenantQuotaFilter;
+import com.teamnest.teamnestapi.tenant.quota.TenantQuotaProperties;
+import com.teamnest.teamnestapi.tenant.service.TenantCacheProperties;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties({PasswordHashingProperties.class, AuthRateLimitProperties.class,
+    TenantQuotaProperties.class, PermissionSnapshotProperties.class,
+    AuthPrincipalCacheProperties.class, TenantCacheProperties.class})
 public class SecurityConfig {
 
   private final CorsConfigurationSource corsConfigurationSource;
 
   @Bean
   SecurityFilterChain defaultSecurityFilterChain(HttpSecurity httpSecurity,
-      BearerTokenResolver bearerTokenResolver, TenantFilter tenantFilter) throws Exception {
+      BearerTokenResolver bearerTokenResolver, TenantFilter tenantFilter,
+      AuthRateLimitFilter authRateLimitFilter, TenantQuotaFilter tenantQuotaFilter,
+      JwtAuthenticationConverter jwtAuthenticationConverter) throws Exception {
 
     httpSecurity
         .sessionManagement(smc -> smc.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
@@ -49,17 +70,20 @@ public class SecurityConfig {
     httpSecurity.exceptionHandling(ehc -> ehc.accessDeniedHandler(new CustomAccessDeniedHandler())
         .authenticationEntryPoint(new CustomBasicAuthenticationEntryPoint()));
     httpSecurity.oauth2ResourceServer(oauth2 -> oauth2.bearerTokenResolver(bearerTokenResolver)
-        .jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthenticationConverter())));
+        .jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthenticationConverter)));
+    httpSecurity.addFilterBefore(authRateLimitFilter, BearerTokenAuthenticationFilter.class);
     httpSecurity.addFilterAfter(tenantFilter, BearerTokenAuthenticationFilter.class);
+    httpSecurity.addFilterAfter(tenantQuotaFilter, TenantFilter.class);
 
     return httpSecurity.build();
   }
 
   @Bean
   AuthenticationManager authenticationManager(UserDetailsService userDetailsService,
-      PasswordEncoder passwordEncoder) throws Exception {
-    AppUsernamePwdAuthenticationProvider provider =
-        new AppUsernamePwdAuthenticationProvider(userDetailsService, passwordEncoder);
+      UserDetailsPasswordService userDetailsPasswordService,
+      PasswordHashingExecutor passwordHashingExecutor) throws Exception {
+    AppUsernamePwdAuthenticationProvider provider = new AppUsernamePwdAuthenticationProvider(
+        userDetailsService, userDetailsPasswordService, passwordHashingExecutor);
     ProviderManager providerManager = new ProviderManager(provider);
     providerManager.setEraseCredentialsAfterAuthentication(true);
 
@@ -68,17 +92,25 @@ public class SecurityConfig {
 
 
   @Bean
-  PasswordEncoder passwordEncoder() {
-    return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+  PasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+    int strength = properties.getCalibration().isEnabled()
+        ? BCryptStrengthCalibrator.calibrate(properties.getCalibration())
+        : properties.getBcryptStrength();
+
+    // Hashes below this strength or under another id report upgradeEncoding() and are rehashed
+    // on next login; ids other than bcrypt are still verified by the factory's encoders
+    DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder("bcrypt",
+        Map.of("bcrypt", new BCryptPasswordEncoder(strength)));
+    passwordEncoder.setDefaultPasswordEncoderForMatches(
+        PasswordEncoderFactories.createDelegatingPasswordEncoder());
+    return passwordEncoder;
   }
 
   @Bean
-  JwtAuthenticationConverter jwtAuthenticationConverter() {
-    JwtGrantedAuthoritiesConverter converter = new JwtGrantedAuthoritiesConverter();
-    converter.setAuthorityPrefix("ROLE_");
-    converter.setAuthoritiesClaimName("roles");
+  JwtAuthenticationConverter jwtAuthenticationConverter(PermissionCatalog permissionCatalog) {
     JwtAuthenticationConverter jwtAuthenticationConverter = new JwtAuthenticationConverter();
-    jwtAuthenticationConverter.setJwtGrantedAuthoritiesConverter(converter);
+    jwtAuthenticationConverter.setJwtGrantedAuthoritiesConverter(
+        new PermissionClaimAuthoritiesConverter(permissionCatalog));
     return jwtAuthenticationConverter;
   }
 
@@ -94,4 +126,22 @@ public class SecurityConfig {
     return registration;
   }
 
+  @Bean
+  FilterRegistrationBean<AuthRateLimitFilter> authRateLimitFilterRegistration(
+      AuthRateLimitFilter authRateLimitFilter) {
+    FilterRegistrationBean<AuthRateLimitFilter> registration =
+        new FilterRegistrationBean<>(authRateLimitFilter);
+    registration.setEnabled(false);
+    return registration;
+  }
+
+  @Bean
+  FilterRegistrationBean<TenantQuotaFilter> tenantQuotaFilterRegistration(
+      TenantQuotaFilter tenantQuotaFilter) {
+    FilterRegistrationBean<TenantQuotaFilter> registration =
+        new FilterRegistrationBean<>(tenantQuotaFilter);
+    registration.setEnabled(false);
+    return registration;
+  }
+
 }
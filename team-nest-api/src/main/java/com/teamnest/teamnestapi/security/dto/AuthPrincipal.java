@@ -0,0 +1,25 @@
+package com.teamnest.teamnestapi.security.dto;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import com.teamnest.teamnestapi.common.enums.Status;
+
+/**
+ * Immutable subset of a user needed to authenticate and issue tokens.
+ */
+public record AuthPrincipal(UUID id, UUID tenantId, String email, String passwordHash,
+    Status status, List<UUID> roleIds, List<String> roleNames, List<String> permissionCodes) {
+
+  public static AuthPrincipal fromRows(List<? extends AuthPrincipalRow> rows) {
+    AuthPrincipalRow first = rows.getFirst();
+    List<UUID> roleIds = rows.stream().map(AuthPrincipalRow::getRoleId)
+        .filter(Objects::nonNull).distinct().toList();
+    List<String> roleNames = rows.stream().map(AuthPrincipalRow::getRoleName)
+        .filter(Objects::nonNull).distinct().toList();
+    List<String> permissionCodes = rows.stream().map(AuthPrincipalRow::getPermissionCode)
+        .filter(Objects::nonNull).distinct().toList();
+    return new AuthPrincipal(first.getUserId(), first.getTenantId(), first.getEmail(),
+        first.getPassword(), first.getStatus(), roleIds, roleNames, permissionCodes);
+  }
+}
@@ -0,0 +1,26 @@
+package com.teamnest.teamnestapi.security.dto;
+
+import java.util.UUID;
+import com.teamnest.teamnestapi.common.enums.Status;
+
+/**
+ * One row per assigned role and permission; {@link AuthPrincipal#fromRows} folds them back into a principal.
+ */
+public interface AuthPrincipalRow {
+
+  UUID getUserId();
+
+  UUID getTenantId();
+
+  String getEmail();
+
+  String getPassword();
+
+  Status getStatus();
+
+  UUID getRoleId();
+
+  String getRoleName();
+
+  String getPermissionCode();
+}
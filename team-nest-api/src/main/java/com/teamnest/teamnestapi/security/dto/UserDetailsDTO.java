@@ -4,31 +4,30 @@ import java.util.Collection;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
-import com.teamnest.teamnestapi.user.entity.User;
 
 public class UserDetailsDTO implements UserDetails {
 
-  private final User user;
+  private final AuthPrincipal principal;
 
-  public UserDetailsDTO(User user) {
-    this.user = user;
+  public UserDetailsDTO(AuthPrincipal principal) {
+    this.principal = principal;
   }
 
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
-    return user.getRoles().stream()
-        .map(role -> role.getName().startsWith("ROLE_") ? role.getName() : "ROLE_" + role.getName())
+    return principal.roleNames().stream()
+        .map(roleName -> roleName.startsWith("ROLE_") ? roleName : "ROLE_" + roleName)
         .map(SimpleGrantedAuthority::new).toList();
   }
 
   @Override
   public String getPassword() {
-    return user.getPassword();
+    return principal.passwordHash();
   }
 
   @Override
   public String getUsername() {
-    return user.getEmail();
+    return principal.email();
   }
 
   @Override
@@ -51,8 +50,8 @@ public class UserDetailsDTO implements UserDetails {
     return true;
   }
 
-  public User getUser() {
-    return user;
+  public AuthPrincipal getPrincipal() {
+    return principal;
   }
 
 }
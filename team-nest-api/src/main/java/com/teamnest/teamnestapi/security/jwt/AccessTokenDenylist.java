@@ -0,0 +1,98 @@
+package com.teamnest.teamnestapi.security.jwt;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import com.teamnest.teamnestapi.tenant.shard.TenantShardDataSources;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Denylist of access token ids ({@code jti}) revoked before their expiry. Denials are written to
+ * the {@code revoked_access_tokens} table on the default shard, and every node reloads that table
+ * on a schedule, so a logout on one node reaches the others within one rebuild interval and
+ * survives restarts.
+ *
+ * <p>Lookups go through an in-memory Bloom filter first, so the common case of a token that was
+ * never denied costs a few bit reads; only filter hits consult the exact map. The filter is
+ * rebuilt with each reload, since Bloom filters cannot remove entries.
+ */
+@Slf4j
+@Component
+public class AccessTokenDenylist {
+
+  private final Map<String, Instant> deniedUntil = new ConcurrentHashMap<>();
+  private final JwtProperties.Denylist properties;
+  private final JdbcTemplate jdbcTemplate;
+  private volatile BloomFilter filter;
+
+  public AccessTokenDenylist(JwtProperties jwtProperties, DataSource dataSource,
+      ObjectProvider<TenantShardDataSources> shardDataSources, MeterRegistry meterRegistry) {
+    this.properties = jwtProperties.getDenylist();
+    // Outside any shard routing so every node reads and writes the same table
+    TenantShardDataSources shards = shardDataSources.getIfAvailable();
+    this.jdbcTemplate = new JdbcTemplate(shards != null ? shards.getDefault() : dataSource);
+    this.filter = newFilter(0);
+    meterRegistry.gaugeMapSize("auth.access.token.denylist.size", List.of(), deniedUntil);
+  }
+
+  public void deny(String tokenId, Instant expiresAt) {
+    if (tokenId == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+      return;
+    }
+    jdbcTemplate.update(
+        "INSERT INTO revoked_access_tokens (token_id, expires_at) VALUES (?, ?) "
+            + "ON CONFLICT (token_id) DO NOTHING",
+        tokenId, Timestamp.from(expiresAt));
+    deniedUntil.put(tokenId, expiresAt);
+    filter.put(tokenId);
+  }
+
+  public boolean isDenied(String tokenId) {
+    if (tokenId == null || !filter.mightContain(tokenId)) {
+      return false;
+    }
+    Instant expiresAt = deniedUntil.get(tokenId);
+    return expiresAt != null && expiresAt.isAfter(Instant.now());
+  }
+
+  /**
+   * Reloads denials made on any node and drops expired ones. Runs once at startup as well.
+   */
+  @Scheduled(fixedDelayString = "${app.jwt.denylist.rebuild-interval:PT1M}")
+  public void rebuild() {
+    Instant now = Instant.now();
+    try {
+      jdbcTemplate.update("DELETE FROM revoked_access_tokens WHERE expires_at <= ?",
+          Timestamp.from(now));
+      jdbcTemplate.query("SELECT token_id, expires_at FROM revoked_access_tokens",
+          (RowCallbackHandler) rs -> deniedUntil.putIfAbsent(rs.getString("token_id"),
+              rs.getTimestamp("expires_at").toInstant()));
+    } catch (DataAccessException ex) {
+      // Keep enforcing what is already known; the next run retries
+      log.warn("Could not reload the access token denylist: {}", ex.getMessage());
+    }
+    deniedUntil.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+
+    BloomFilter rebuilt = newFilter(deniedUntil.size());
+    deniedUntil.keySet().forEach(rebuilt::put);
+    filter = rebuilt;
+    // Entries denied while the new filter was being filled may have gone to the old one
+    deniedUntil.keySet().forEach(rebuilt::put);
+  }
+
+  private BloomFilter newFilter(int entries) {
+    long expectedInsertions = Math.max(properties.getExpectedInsertions(), 2L * entries);
+    return new BloomFilter(expectedInsertions, properties.getFalsePositiveRate());
+  }
+
+}
@@ -0,0 +1,77 @@
+package com.teamnest.teamnestapi.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Decodes a token once and serves the validated {@link Jwt} from memory until the token's
+ * {@code exp}. Entries are keyed by a SHA-256 digest so raw tokens are never held as keys.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+  private final JwtDecoder delegate;
+  private final AccessTokenDenylist denylist;
+  private final Cache<String, Jwt> verifiedTokens;
+
+  public CachingJwtDecoder(JwtDecoder delegate, AccessTokenDenylist denylist, long maximumSize) {
+    this.delegate = delegate;
+    this.denylist = denylist;
+    this.verifiedTokens =
+        Caffeine.newBuilder().maximumSize(maximumSize).expireAfter(new ExpireAtTokenExpiry())
+            .build();
+  }
+
+  @Override
+  public Jwt decode(String token) throws JwtException {
+    // Failed decodes throw out of the loader and are never cached
+    Jwt jwt = verifiedTokens.get(digest(token), key -> delegate.decode(token));
+    if (denylist.isDenied(jwt.getId())) {
+      throw new BadJwtException("Token has been revoked");
+    }
+    return jwt;
+  }
+
+  private String digest(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] hash = digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 not available", ex);
+    }
+  }
+
+
+  private static final class ExpireAtTokenExpiry implements Expiry<String, Jwt> {
+
+    @Override
+    public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+      Instant expiresAt = jwt.getExpiresAt();
+      if (expiresAt == null) {
+        return 0;
+      }
+      return Math.max(0, Duration.between(Instant.now(), expiresAt).toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+
+    @Override
+    public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
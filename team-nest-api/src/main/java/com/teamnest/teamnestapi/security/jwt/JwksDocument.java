@@ -0,0 +1,51 @@
+package com.teamnest.teamnestapi.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import com.nimbusds.jose.jwk.JWKSet;
+
+/**
+ * The public JWKS rendered once to bytes, with a strong ETag derived from its content.
+ */
+public final class JwksDocument {
+
+  private final byte[] body;
+  private final String etag;
+
+  public JwksDocument(JWKSet publicJwkSet) {
+    this.body = publicJwkSet.toString(true).getBytes(StandardCharsets.UTF_8);
+    this.etag = "\"" + digest(body) + "\"";
+  }
+
+  public byte[] getBody() {
+    return body;
+  }
+
+  public String getEtag() {
+    return etag;
+  }
+
+  public boolean matches(String ifNoneMatch) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (String candidate : ifNoneMatch.split(",")) {
+      String tag = candidate.trim();
+      if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String digest(byte[] content) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 not available", ex);
+    }
+  }
+}
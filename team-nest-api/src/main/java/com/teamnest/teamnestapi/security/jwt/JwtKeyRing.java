@@ -0,0 +1,153 @@
+package com.teamnest.teamnestapi.security.jwt;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+
+/**
+ * The configured JWT keys: one signing key plus any number of verification-only keys. Falls back
+ * to the single {@code app.jwt.rsa} key pair when no {@code app.jwt.keys} are configured.
+ */
+public final class JwtKeyRing {
+
+  private final JWKSet jwkSet;
+  private final JWK signingKey;
+  private final JwsHeader signingHeader;
+
+  private JwtKeyRing(JWKSet jwkSet, JWK signingKey) {
+    this.jwkSet = jwkSet;
+    this.signingKey = signingKey;
+    this.signingHeader =
+        JwsHeader.with(SignatureAlgorithm.from(signingKey.getAlgorithm().getName()))
+            .keyId(signingKey.getKeyID()).build();
+  }
+
+  public static JwtKeyRing from(JwtProperties properties) {
+    List<JwtProperties.SigningKey> configuredKeys = new ArrayList<>(properties.getKeys());
+    if (configuredKeys.isEmpty()) {
+      configuredKeys.add(legacyRsaKey(properties.getRsa()));
+    }
+
+    List<JWK> keys = configuredKeys.stream().map(JwtKeyRing::toJwk).toList();
+    JWK signingKey = keys.stream().filter(JWK::isPrivate).findFirst().orElseThrow(
+        () -> new IllegalStateException("At least one JWT key must include a private key"));
+    return new JwtKeyRing(new JWKSet(keys), signingKey);
+  }
+
+  public JWKSet getPublicJwkSet() {
+    return jwkSet.toPublicJWKSet();
+  }
+
+  public JWKSet getSigningJwkSet() {
+    return new JWKSet(signingKey);
+  }
+
+  public JwsHeader getSigningHeader() {
+    return signingHeader;
+  }
+
+  public Set<JWSAlgorithm> getVerificationAlgorithms() {
+    return jwkSet.getKeys().stream().map(key -> (JWSAlgorithm) key.getAlgorithm())
+        .collect(Collectors.toUnmodifiableSet());
+  }
+
+
+  private static JwtProperties.SigningKey legacyRsaKey(JwtProperties.Rsa rsa) {
+    if (rsa.getPublicKey() == null || rsa.getPublicKey().isBlank()) {
+      throw new IllegalStateException("APP_JWT_RSA_PUBLIC_KEY must be set");
+    }
+    if (rsa.getPrivateKey() == null || rsa.getPrivateKey().isBlank()) {
+      throw new IllegalStateException("APP_JWT_RSA_PRIVATE_KEY must be set");
+    }
+    JwtProperties.SigningKey key = new JwtProperties.SigningKey();
+    key.setAlgorithm(JWSAlgorithm.RS256.getName());
+    key.setPublicKey(rsa.getPublicKey());
+    key.setPrivateKey(rsa.getPrivateKey());
+    return key;
+  }
+
+  private static JWK toJwk(JwtProperties.SigningKey key) {
+    JWSAlgorithm algorithm = JWSAlgorithm.parse(key.getAlgorithm());
+    boolean hasPrivateKey = key.getPrivateKey() != null && !key.getPrivateKey().isBlank();
+    if (JWSAlgorithm.RS256.equals(algorithm)) {
+      RSAPublicKey publicKey = (RSAPublicKey) parsePublicKey(key.getPublicKey(), "RSA");
+      RSAKey.Builder builder = new RSAKey.Builder(publicKey).algorithm(algorithm)
+          .keyUse(KeyUse.SIGNATURE).keyID(computeKeyId(publicKey));
+      if (hasPrivateKey) {
+        builder.privateKey((RSAPrivateKey) parsePrivateKey(key.getPrivateKey(), "RSA"));
+      }
+      return builder.build();
+    }
+    if (JWSAlgorithm.ES256.equals(algorithm)) {
+      ECPublicKey publicKey = (ECPublicKey) parsePublicKey(key.getPublicKey(), "EC");
+      ECKey.Builder builder = new ECKey.Builder(Curve.P_256, publicKey).algorithm(algorithm)
+          .keyUse(KeyUse.SIGNATURE).keyID(computeKeyId(publicKey));
+      if (hasPrivateKey) {
+        builder.privateKey((ECPrivateKey) parsePrivateKey(key.getPrivateKey(), "EC"));
+      }
+      return builder.build();
+    }
+    throw new IllegalStateException("Unsupported JWT signing algorithm: " + key.getAlgorithm());
+  }
+
+  private static PublicKey parsePublicKey(String pem, String keyAlgorithm) {
+    if (pem == null || pem.isBlank()) {
+      throw new IllegalStateException("JWT public key must be set");
+    }
+    try {
+      byte[] decoded = decodePem(pem, "PUBLIC KEY");
+      return KeyFactory.getInstance(keyAlgorithm).generatePublic(new X509EncodedKeySpec(decoded));
+    } catch (GeneralSecurityException ex) {
+      throw new IllegalStateException("Invalid " + keyAlgorithm + " public key", ex);
+    }
+  }
+
+  private static PrivateKey parsePrivateKey(String pem, String keyAlgorithm) {
+    try {
+      byte[] decoded = decodePem(pem, "PRIVATE KEY");
+      return KeyFactory.getInstance(keyAlgorithm)
+          .generatePrivate(new PKCS8EncodedKeySpec(decoded));
+    } catch (GeneralSecurityException ex) {
+      throw new IllegalStateException("Invalid " + keyAlgorithm + " private key", ex);
+    }
+  }
+
+  private static byte[] decodePem(String pem, String type) {
+    String sanitized =
+        pem.replace("\\n", "").replace("\\r", "").replace("-----BEGIN " + type + "-----", "")
+            .replace("-----END " + type + "-----", "").replaceAll("\\s", "");
+    return Base64.getDecoder().decode(sanitized);
+  }
+
+  private static String computeKeyId(PublicKey publicKey) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] hash = digest.digest(publicKey.getEncoded());
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    } catch (GeneralSecurityException ex) {
+      throw new IllegalStateException("Unable to compute key id", ex);
+    }
+  }
+}
@@ -1,5 +1,8 @@
 package com.teamnest.teamnestapi.security.jwt;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import lombok.Getter;
 import lombok.Setter;
@@ -12,8 +15,13 @@ public class JwtProperties {
   private String issuer;
   private long accessTokenExpirationMs;
   private long refreshTokenExpirationMs;
+  private String refreshTokenSecret;
   private final Rsa rsa = new Rsa();
+  private final List<SigningKey> keys = new ArrayList<>();
   private final Cookie cookie = new Cookie();
+  private final DecoderCache decoderCache = new DecoderCache();
+  private final Denylist denylist = new Denylist();
+  private final Jwks jwks = new Jwks();
 
 
   @Getter
@@ -24,6 +32,20 @@ public class JwtProperties {
   }
 
 
+  /**
+   * One entry of the key ring. The first key with a private key signs new tokens; every key is
+   * published in the JWKS and accepted for verification, so retired keys can stay listed with only
+   * their public key until the tokens they signed have expired.
+   */
+  @Getter
+  @Setter
+  public static class SigningKey {
+    private String algorithm = "ES256";
+    private String publicKey;
+    private String privateKey;
+  }
+
+
   @Getter
   @Setter
   public static class Cookie {
@@ -35,4 +57,26 @@ public class JwtProperties {
     private String domain;
   }
 
+
+  @Getter
+  @Setter
+  public static class DecoderCache {
+    private long maximumSize = 10_000;
+  }
+
+
+  @Getter
+  @Setter
+  public static class Denylist {
+    private long expectedInsertions = 100_000;
+    private double falsePositiveRate = 0.01;
+  }
+
+
+  @Getter
+  @Setter
+  public static class Jwks {
+    private Duration maxAge = Duration.ofMinutes(5);
+  }
+
 }
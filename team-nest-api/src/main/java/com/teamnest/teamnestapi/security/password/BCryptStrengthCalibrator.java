@@ -0,0 +1,54 @@
+package com.teamnest.teamnestapi.security.password;
+
+import java.time.Duration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Picks the highest bcrypt strength whose verify time on this machine stays within the
+ * configured target, so the login cost is chosen deliberately rather than inherited.
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+  private static final String SAMPLE_PASSWORD = "calibration-Sample-P@ss1";
+  private static final int SAMPLES = 3;
+
+  private BCryptStrengthCalibrator() {
+    // Private constructor to prevent instantiation
+  }
+
+  public static int calibrate(PasswordHashingProperties.Calibration calibration) {
+    long targetNanos = Duration.ofMillis(calibration.getTargetMillis()).toNanos();
+    int chosen = calibration.getMinStrength();
+
+    for (int strength = calibration.getMinStrength(); strength <= calibration
+        .getMaxStrength(); strength++) {
+      long verifyNanos = measureVerify(strength);
+      log.info("bcrypt strength {} verifies in {} ms", strength,
+          Duration.ofNanos(verifyNanos).toMillis());
+      if (verifyNanos > targetNanos) {
+        break;
+      }
+      chosen = strength;
+    }
+
+    log.info("Calibrated bcrypt strength {} for a {} ms verify target", chosen,
+        calibration.getTargetMillis());
+    return chosen;
+  }
+
+  private static long measureVerify(int strength) {
+    BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+    String encoded = encoder.encode(SAMPLE_PASSWORD);
+
+    long best = Long.MAX_VALUE;
+    for (int i = 0; i < SAMPLES; i++) {
+      long start = System.nanoTime();
+      encoder.matches(SAMPLE_PASSWORD, encoded);
+      best = Math.min(best, System.nanoTime() - start);
+    }
+    return best;
+  }
+
+}
@@ -0,0 +1,141 @@
+package com.teamnest.teamnestapi.security.password;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import com.teamnest.teamnestapi.common.enums.ApiErrorMsg;
+import com.teamnest.teamnestapi.exception.ServiceUnavailableException;
+import com.teamnest.teamnestapi.tenant.context.TenantTaskDecorator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs password hashing and verification on a fixed pool with a bounded queue so a login burst
+ * cannot occupy every request thread with hashing work. When the queue is full the caller fails
+ * fast.
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+  private final PasswordEncoder passwordEncoder;
+  private final PasswordHashingProperties properties;
+  private final TenantTaskDecorator taskDecorator;
+  private final ThreadPoolExecutor executor;
+  private final Timer hashTimer;
+  private final Counter rejectedCounter;
+  private final Counter rehashCounter;
+
+  public PasswordHashingExecutor(PasswordEncoder passwordEncoder,
+      PasswordHashingProperties properties, TenantTaskDecorator taskDecorator,
+      MeterRegistry meterRegistry) {
+    this.passwordEncoder = passwordEncoder;
+    this.properties = properties;
+    this.taskDecorator = taskDecorator;
+
+    int parallelism = properties.resolveParallelism();
+    this.executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+        new CustomizableThreadFactory("password-hash-"), new ThreadPoolExecutor.AbortPolicy());
+
+    this.hashTimer = Timer.builder("auth.password.hash.duration")
+        .description("Time spent hashing or verifying a password").register(meterRegistry);
+    this.rejectedCounter = Counter.builder("auth.password.hash.rejected")
+        .description("Password hashing tasks rejected because the queue was full")
+        .register(meterRegistry);
+    this.rehashCounter = Counter.builder("auth.password.rehash")
+        .description("Stored password hashes upgraded after a successful login")
+        .register(meterRegistry);
+    Gauge.builder("auth.password.hash.queue.depth", executor, pool -> pool.getQueue().size())
+        .description("Password hashing tasks waiting for a thread").register(meterRegistry);
+    Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+        .description("Password hashing tasks currently running").register(meterRegistry);
+  }
+
+  public boolean needsRehash(String encodedPassword) {
+    return passwordEncoder.upgradeEncoding(encodedPassword);
+  }
+
+  /**
+   * Best effort: the rehash is skipped while logins are queued and retried on the next login.
+   * The callback runs with the caller's tenant and shard so it updates the user where it lives.
+   */
+  public void rehashInBackground(CharSequence rawPassword, Consumer<String> onRehashed) {
+    if (!executor.getQueue().isEmpty()) {
+      return;
+    }
+    try {
+      executor.execute(taskDecorator.decorate(() -> {
+        try {
+          onRehashed.accept(timed(() -> passwordEncoder.encode(rawPassword)));
+          rehashCounter.increment();
+        } catch (RuntimeException ex) {
+          log.warn("Background password rehash failed: {}", ex.getMessage());
+        }
+      }));
+    } catch (RejectedExecutionException ex) {
+      log.debug("Skipping password rehash, hashing queue is full");
+    }
+  }
+
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return await(submit(() -> timed(() -> passwordEncoder.matches(rawPassword, encodedPassword))));
+  }
+
+  public String encode(CharSequence rawPassword) {
+    return await(submit(() -> timed(() -> passwordEncoder.encode(rawPassword))));
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+
+  private <T> T timed(Supplier<T> work) {
+    long start = System.nanoTime();
+    try {
+      return work.get();
+    } finally {
+      hashTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private <T> Future<T> submit(Callable<T> task) {
+    try {
+      return executor.submit(task);
+    } catch (RejectedExecutionException ex) {
+      rejectedCounter.increment();
+      throw new ServiceUnavailableException(ApiErrorMsg.LOGIN_CAPACITY_EXCEEDED.getMessage(),
+          properties.getRetryAfterSeconds());
+    }
+  }
+
+  private <T> T await(Future<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException ex) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while hashing password", ex);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Password hashing failed", ex.getCause());
+    }
+  }
+
+}
@@ -0,0 +1,35 @@
+package com.teamnest.teamnestapi.security.password;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.auth.password-hashing")
+public class PasswordHashingProperties {
+
+  /**
+   * Number of hashing threads; zero or less means one per available core.
+   */
+  private int parallelism;
+  private int queueCapacity = 64;
+  private long retryAfterSeconds = 2;
+  private int bcryptStrength = 10;
+  private final Calibration calibration = new Calibration();
+
+  public int resolveParallelism() {
+    return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+  }
+
+
+  @Getter
+  @Setter
+  public static class Calibration {
+    private boolean enabled;
+    private long targetMillis = 250;
+    private int minStrength = 10;
+    private int maxStrength = 16;
+  }
+
+}
@@ -0,0 +1,99 @@
+package com.teamnest.teamnestapi.security.permission;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+import com.teamnest.teamnestapi.common.entity.PermissionLookup;
+import com.teamnest.teamnestapi.common.service.PermissionLookupService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Maps permission keys from {@code permissions_lookup} to their stable bit index, and encodes a
+ * set of keys as a base64url little-endian bitmask for the {@code perms} token claim. The catalog
+ * only changes through migrations, so it is loaded once and never refreshed.
+ */
+@Component
+@RequiredArgsConstructor
+public class PermissionCatalog {
+
+  private final PermissionLookupService permissionLookupService;
+  private volatile Snapshot snapshot;
+
+  public int bitIndexOf(String permissionKey) {
+    Integer bitIndex = snapshot().indexByKey().get(permissionKey);
+    return bitIndex != null ? bitIndex : -1;
+  }
+
+  public int size() {
+    return snapshot().keysByIndex().length;
+  }
+
+  public long[] toBits(Collection<String> permissionKeys) {
+    long[] bits = new long[(size() + 63) / 64];
+    for (String permissionKey : permissionKeys) {
+      int bitIndex = bitIndexOf(permissionKey);
+      if (bitIndex >= 0) {
+        bits[bitIndex >>> 6] |= 1L << bitIndex;
+      }
+    }
+    return bits;
+  }
+
+  public String encode(Collection<String> permissionKeys) {
+    byte[] mask = new byte[(size() + 7) / 8];
+    for (String permissionKey : permissionKeys) {
+      int bitIndex = bitIndexOf(permissionKey);
+      if (bitIndex >= 0) {
+        mask[bitIndex >>> 3] |= (byte) (1 << (bitIndex & 7));
+      }
+    }
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(mask);
+  }
+
+  public List<String> decode(String encodedMask) {
+    byte[] mask = Base64.getUrlDecoder().decode(encodedMask);
+    String[] keysByIndex = snapshot().keysByIndex();
+    List<String> permissionKeys = new ArrayList<>();
+    int bitCount = Math.min(keysByIndex.length, mask.length * 8);
+    for (int bitIndex = 0; bitIndex < bitCount; bitIndex++) {
+      if ((mask[bitIndex >>> 3] & (1 << (bitIndex & 7))) != 0 && keysByIndex[bitIndex] != null) {
+        permissionKeys.add(keysByIndex[bitIndex]);
+      }
+    }
+    return permissionKeys;
+  }
+
+  private Snapshot snapshot() {
+    Snapshot current = snapshot;
+    if (current == null) {
+      synchronized (this) {
+        current = snapshot;
+        if (current == null) {
+          current = load();
+          snapshot = current;
+        }
+      }
+    }
+    return current;
+  }
+
+  private Snapshot load() {
+    List<PermissionLookup> permissions = permissionLookupService.getAllPermissions();
+    int size = permissions.stream().mapToInt(PermissionLookup::getBitIndex).max().orElse(-1) + 1;
+    String[] keysByIndex = new String[size];
+    Map<String, Integer> indexByKey = new HashMap<>();
+    for (PermissionLookup permission : permissions) {
+      keysByIndex[permission.getBitIndex()] = permission.getKey();
+      indexByKey.put(permission.getKey(), permission.getBitIndex());
+    }
+    return new Snapshot(keysByIndex, Map.copyOf(indexByKey));
+  }
+
+
+  private record Snapshot(String[] keysByIndex, Map<String, Integer> indexByKey) {
+  }
+}
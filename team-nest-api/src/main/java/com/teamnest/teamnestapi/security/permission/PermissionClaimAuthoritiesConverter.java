@@ -0,0 +1,40 @@
+package com.teamnest.teamnestapi.security.permission;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+
+/**
+ * Authorities from the {@code roles} claim as {@code ROLE_*}, plus one authority per permission
+ * key decoded from the {@code perms} bitmask claim.
+ */
+public class PermissionClaimAuthoritiesConverter
+    implements Converter<Jwt, Collection<GrantedAuthority>> {
+
+  public static final String PERMISSIONS_CLAIM = "perms";
+
+  private final JwtGrantedAuthoritiesConverter roleConverter = new JwtGrantedAuthoritiesConverter();
+  private final PermissionCatalog permissionCatalog;
+
+  public PermissionClaimAuthoritiesConverter(PermissionCatalog permissionCatalog) {
+    this.permissionCatalog = permissionCatalog;
+    roleConverter.setAuthorityPrefix("ROLE_");
+    roleConverter.setAuthoritiesClaimName("roles");
+  }
+
+  @Override
+  public Collection<GrantedAuthority> convert(Jwt jwt) {
+    List<GrantedAuthority> authorities = new ArrayList<>(roleConverter.convert(jwt));
+    String encodedPermissions = jwt.getClaimAsString(PERMISSIONS_CLAIM);
+    if (encodedPermissions != null) {
+      permissionCatalog.decode(encodedPermissions).stream().map(SimpleGrantedAuthority::new)
+          .forEach(authorities::add);
+    }
+    return authorities;
+  }
+}
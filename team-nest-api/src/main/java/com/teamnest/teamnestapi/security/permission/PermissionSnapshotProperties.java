@@ -0,0 +1,15 @@
+package com.teamnest.teamnestapi.security.permission;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.auth.permission-snapshots")
+public class PermissionSnapshotProperties {
+
+  private long maximumSize = 10_000;
+  private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
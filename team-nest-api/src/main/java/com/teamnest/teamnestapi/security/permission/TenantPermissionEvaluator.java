@@ -0,0 +1,68 @@
+package com.teamnest.teamnestapi.security.permission;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import com.teamnest.teamnestapi.tenant.context.TenantContext;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resolves {@code hasPermission(..., 'TASK_UPDATE')} against the current tenant's compiled role
+ * bitsets, looked up by the role ids in the token. The target object is ignored; permissions are
+ * granted per tenant, not per record.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantPermissionEvaluator implements PermissionEvaluator {
+
+  public static final String ROLE_IDS_CLAIM = "roleIds";
+
+  private final PermissionCatalog permissionCatalog;
+  private final TenantPermissionSnapshots tenantPermissionSnapshots;
+
+  @Override
+  public boolean hasPermission(Authentication authentication, Object targetDomainObject,
+      Object permission) {
+    UUID tenantId = TenantContext.getTenantId();
+    if (authentication == null || tenantId == null || !(permission instanceof String key)) {
+      return false;
+    }
+    int bitIndex = permissionCatalog.bitIndexOf(key);
+    if (bitIndex < 0) {
+      return false;
+    }
+
+    // The decoded claim is read as is; getClaimAsStringList would copy it on every check
+    Object roleIds = authentication instanceof JwtAuthenticationToken jwtAuthentication
+        ? jwtAuthentication.getToken().getClaims().get(ROLE_IDS_CLAIM)
+        : null;
+    if (!(roleIds instanceof List<?> roleIdList)) {
+      // Tokens issued before role ids were added fall back to their signed permission claim
+      for (GrantedAuthority authority : authentication.getAuthorities()) {
+        if (key.equals(authority.getAuthority())) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    TenantPermissionSnapshot snapshot = tenantPermissionSnapshots.get(tenantId);
+    for (int i = 0; i < roleIdList.size(); i++) {
+      if (roleIdList.get(i) instanceof String roleId && snapshot.grants(roleId, bitIndex)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean hasPermission(Authentication authentication, Serializable targetId,
+      String targetType, Object permission) {
+    return hasPermission(authentication, null, permission);
+  }
+}
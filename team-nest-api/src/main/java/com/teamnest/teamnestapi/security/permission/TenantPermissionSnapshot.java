@@ -0,0 +1,22 @@
+package com.teamnest.teamnestapi.security.permission;
+
+import java.util.Map;
+
+/**
+ * Immutable view of one tenant's roles, each compiled to a permission bitset and keyed by role
+ * id in the string form the token carries, so a check needs no parsing.
+ */
+final class TenantPermissionSnapshot {
+
+  private final Map<String, long[]> bitsByRole;
+
+  TenantPermissionSnapshot(Map<String, long[]> bitsByRole) {
+    this.bitsByRole = Map.copyOf(bitsByRole);
+  }
+
+  boolean grants(String roleId, int bitIndex) {
+    long[] bits = bitsByRole.get(roleId);
+    int word = bitIndex >>> 6;
+    return bits != null && word < bits.length && (bits[word] & (1L << bitIndex)) != 0;
+  }
+}
@@ -0,0 +1,79 @@
+package com.teamnest.teamnestapi.security.permission;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamnest.teamnestapi.role.dto.RolePermissionRow;
+import com.teamnest.teamnestapi.role.repository.RoleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Size- and time-bounded cache of per-tenant {@link TenantPermissionSnapshot}s, built on first
+ * use. A role or permission change drops the tenant's snapshot once the change commits, and the
+ * next check builds a fresh one; readers always see a complete, immutable snapshot.
+ */
+@Component
+public class TenantPermissionSnapshots {
+
+  private final RoleRepository roleRepository;
+  private final PermissionCatalog permissionCatalog;
+  private final Cache<UUID, TenantPermissionSnapshot> snapshots;
+
+  public TenantPermissionSnapshots(RoleRepository roleRepository,
+      PermissionCatalog permissionCatalog, PermissionSnapshotProperties properties,
+      MeterRegistry meterRegistry) {
+    this.roleRepository = roleRepository;
+    this.permissionCatalog = permissionCatalog;
+    this.snapshots = Caffeine.newBuilder().maximumSize(properties.getMaximumSize())
+        .expireAfterWrite(properties.getExpireAfterWrite()).recordStats().build();
+    CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "permissionSnapshots");
+  }
+
+  TenantPermissionSnapshot get(UUID tenantId) {
+    return snapshots.get(tenantId, this::load);
+  }
+
+  public void invalidate(UUID tenantId) {
+    afterCommit(() -> snapshots.invalidate(tenantId));
+  }
+
+  public void invalidateAll() {
+    afterCommit(snapshots::invalidateAll);
+  }
+
+  private void afterCommit(Runnable action) {
+    action.run();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          action.run();
+        }
+      });
+    }
+  }
+
+  private TenantPermissionSnapshot load(UUID tenantId) {
+    List<RolePermissionRow> rows = roleRepository.findRolePermissionRows(tenantId);
+    // Keyed by id: a tenant role and a platform role may share a name
+    Map<String, Set<String>> permissionsByRole = rows.stream()
+        .collect(Collectors.groupingBy(row -> row.getRoleId().toString(),
+            Collectors.mapping(RolePermissionRow::getPermissionCode, Collectors.toSet())));
+
+    Map<String, long[]> bitsByRole = new HashMap<>();
+    permissionsByRole.forEach((roleId, permissionCodes) -> {
+      permissionCodes.remove(null);
+      bitsByRole.put(roleId, permissionCatalog.toBits(permissionCodes));
+    });
+    return new TenantPermissionSnapshot(bitsByRole);
+  }
+}
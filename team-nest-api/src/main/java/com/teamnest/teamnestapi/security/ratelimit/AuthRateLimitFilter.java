@@ -0,0 +1,129 @@
+package com.teamnest.teamnestapi.security.ratelimit;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamnest.teamnestapi.common.enums.ApiErrorMsg;
+import com.teamnest.teamnestapi.common.response.AppApiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Throttles the public auth endpoints by client IP and by the email in the request body, before
+ * the request reaches any user lookup, password hashing or mail delivery.
+ */
+@Component
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+  private static final String RESET_PASSWORD_PATH = "/api/v1/auth/reset-password";
+  private static final Set<String> THROTTLED_PATHS =
+      Set.of("/api/v1/auth/login", "/api/v1/auth/forgot-password", RESET_PASSWORD_PATH);
+  private static final int MAX_INSPECTED_BODY_BYTES = 16 * 1024;
+
+  private final AuthRateLimitProperties properties;
+  private final ObjectMapper objectMapper;
+  private final SlidingWindowRateLimiter ipRateLimiter;
+  private final SlidingWindowRateLimiter emailRateLimiter;
+  private final Map<String, Counter> ipRejectedCounters;
+  private final Map<String, Counter> emailRejectedCounters;
+
+  public AuthRateLimitFilter(AuthRateLimitProperties properties, ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+    this.ipRateLimiter =
+        new SlidingWindowRateLimiter(properties.getIpLimit(), properties.getWindow());
+    this.emailRateLimiter =
+        new SlidingWindowRateLimiter(properties.getEmailLimit(), properties.getWindow());
+    this.ipRejectedCounters = rejectedCounters(meterRegistry, "ip");
+    this.emailRejectedCounters = rejectedCounters(meterRegistry, "email");
+  }
+
+  @Override
+  protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+    return !properties.isEnabled() || !HttpMethod.POST.matches(request.getMethod())
+        || !THROTTLED_PATHS.contains(request.getRequestURI());
+  }
+
+  @Override
+  protected void doFilterInternal(@NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    // server.forward-headers-strategy makes this the client's address behind a trusted proxy
+    long retryAfterSeconds = ipRateLimiter.tryAcquire(request.getRemoteAddr());
+    if (retryAfterSeconds > 0) {
+      reject(request, response, ipRejectedCounters, retryAfterSeconds);
+      return;
+    }
+
+    HttpServletRequest filteredRequest = request;
+    // A chunked body reports a length of -1, so it is read up to one byte past the limit to learn
+    // whether it fits
+    long contentLength = request.getContentLengthLong();
+    if (!RESET_PASSWORD_PATH.equals(request.getRequestURI()) && contentLength != 0
+        && contentLength <= MAX_INSPECTED_BODY_BYTES) {
+      byte[] body = request.getInputStream().readNBytes(MAX_INSPECTED_BODY_BYTES + 1);
+      filteredRequest = new CachedBodyHttpServletRequest(request, body);
+
+      String email = body.length <= MAX_INSPECTED_BODY_BYTES ? extractEmail(body) : null;
+      if (email != null) {
+        retryAfterSeconds = emailRateLimiter.tryAcquire(email);
+        if (retryAfterSeconds > 0) {
+          reject(request, response, emailRejectedCounters, retryAfterSeconds);
+          return;
+        }
+      }
+    }
+
+    filterChain.doFilter(filteredRequest, response);
+  }
+
+  private String extractEmail(byte[] body) {
+    try {
+      String email = objectMapper.readTree(body).path("email").textValue();
+      return StringUtils.hasText(email) ? email.trim().toLowerCase(Locale.ROOT) : null;
+    } catch (IOException ex) {
+      // Malformed bodies are left for the controller to reject
+      return null;
+    }
+  }
+
+  private static Map<String, Counter> rejectedCounters(MeterRegistry meterRegistry,
+      String keyType) {
+    return THROTTLED_PATHS.stream()
+        .collect(Collectors.toUnmodifiableMap(Function.identity(),
+            path -> Counter.builder("auth.rate.limit.rejected")
+                .description("Public auth requests rejected by the rate limiter")
+                .tag("endpoint", path).tag("key", keyType).register(meterRegistry)));
+  }
+
+  private void reject(HttpServletRequest request, HttpServletResponse response,
+      Map<String, Counter> rejectedCounters, long retryAfterSeconds) throws IOException {
+    // shouldNotFilter only lets the throttled paths through, so every path has its counter
+    rejectedCounters.get(request.getRequestURI()).increment();
+
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(), AppApiResponse
+        .error(ApiErrorMsg.TOO_MANY_REQUESTS.getMessage(), request.getRequestURI(), null));
+  }
+
+}
@@ -0,0 +1,18 @@
+package com.teamnest.teamnestapi.security.ratelimit;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.auth.rate-limit")
+public class AuthRateLimitProperties {
+
+  private boolean enabled = true;
+  private Duration window = Duration.ofMinutes(1);
+  private int ipLimit = 30;
+  private int emailLimit = 5;
+
+}
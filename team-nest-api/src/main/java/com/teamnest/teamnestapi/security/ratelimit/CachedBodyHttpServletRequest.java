@@ -0,0 +1,83 @@
+package com.teamnest.teamnestapi.security.ratelimit;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * Replays the already-read start of a request body, followed by whatever the client has not yet
+ * sent, so the filter can inspect it before the controller.
+ */
+class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+  private final byte[] body;
+
+  CachedBodyHttpServletRequest(HttpServletRequest request, byte[] body) {
+    super(request);
+    this.body = body;
+  }
+
+  @Override
+  public ServletInputStream getInputStream() throws IOException {
+    ByteArrayInputStream cached = new ByteArrayInputStream(body);
+    ServletInputStream remainder = super.getInputStream();
+    InputStream inputStream = new SequenceInputStream(cached, remainder);
+    return new ServletInputStream() {
+
+      @Override
+      public boolean isFinished() {
+        return cached.available() == 0 && remainder.isFinished();
+      }
+
+      @Override
+      public boolean isReady() {
+        return cached.available() > 0 || remainder.isFinished() || remainder.isReady();
+      }
+
+      @Override
+      public void setReadListener(ReadListener readListener) {
+        if (!remainder.isFinished()) {
+          // The container calls back as the rest arrives; reads drain the cached bytes first
+          remainder.setReadListener(readListener);
+          return;
+        }
+        // The whole body is in memory, so it is handed over at once
+        try {
+          readListener.onDataAvailable();
+          if (isFinished()) {
+            readListener.onAllDataRead();
+          }
+        } catch (IOException | RuntimeException ex) {
+          readListener.onError(ex);
+        }
+      }
+
+      @Override
+      public int read() throws IOException {
+        return inputStream.read();
+      }
+
+      @Override
+      public int read(byte[] buffer, int offset, int length) throws IOException {
+        return inputStream.read(buffer, offset, length);
+      }
+    };
+  }
+
+  @Override
+  public BufferedReader getReader() throws IOException {
+    String encoding = getCharacterEncoding();
+    Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+    return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+  }
+
+}
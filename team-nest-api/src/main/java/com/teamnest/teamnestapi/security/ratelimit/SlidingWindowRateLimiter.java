@@ -0,0 +1,107 @@
+package com.teamnest.teamnestapi.security.ratelimit;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sliding-window counter keyed by an arbitrary string. Keys are spread over a fixed set of
+ * lock stripes; a key only allocates on its first hit and is dropped once idle for two windows.
+ */
+public class SlidingWindowRateLimiter {
+
+  private static final int STRIPES = 64;
+
+  private final int limit;
+  private final long windowNanos;
+  private final Stripe[] stripes = new Stripe[STRIPES];
+
+  public SlidingWindowRateLimiter(int limit, Duration window) {
+    this.limit = limit;
+    this.windowNanos = window.toNanos();
+    for (int i = 0; i < STRIPES; i++) {
+      stripes[i] = new Stripe(System.nanoTime());
+    }
+  }
+
+  /**
+   * Returns {@code 0} when the call is permitted, otherwise the seconds to wait before retrying.
+   */
+  public long tryAcquire(String key) {
+    int hash = key.hashCode();
+    Stripe stripe = stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    long now = System.nanoTime();
+
+    stripe.lock.lock();
+    try {
+      stripe.evictIdle(now, windowNanos);
+
+      Window window = stripe.windows.get(key);
+      if (window == null) {
+        window = new Window(now);
+        stripe.windows.put(key, window);
+      }
+      window.roll(now, windowNanos);
+      window.lastSeen = now;
+
+      long elapsed = now - window.start;
+      double previousWeight = (double) (windowNanos - elapsed) / windowNanos;
+      double estimate = window.previous * previousWeight + window.current;
+      if (estimate + 1 > limit) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(windowNanos - elapsed + 999_999_999L));
+      }
+      window.current++;
+      return 0;
+    } finally {
+      stripe.lock.unlock();
+    }
+  }
+
+
+  private static final class Stripe {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Window> windows = new HashMap<>();
+    private long lastSweep;
+
+    private Stripe(long now) {
+      this.lastSweep = now;
+    }
+
+    private void evictIdle(long now, long windowNanos) {
+      if (now - lastSweep < windowNanos) {
+        return;
+      }
+      lastSweep = now;
+      windows.values().removeIf(window -> now - window.lastSeen >= 2 * windowNanos);
+    }
+  }
+
+
+  private static final class Window {
+    private long start;
+    private long lastSeen;
+    private int previous;
+    private int current;
+
+    private Window(long now) {
+      this.start = now;
+      this.lastSeen = now;
+    }
+
+    private void roll(long now, long windowNanos) {
+      long elapsed = now - start;
+      if (elapsed >= 2 * windowNanos) {
+        previous = 0;
+        current = 0;
+        start = now;
+      } else if (elapsed >= windowNanos) {
+        previous = current;
+        current = 0;
+        start += windowNanos;
+      }
+    }
+  }
+
+}
@@ -0,0 +1,70 @@
+package com.teamnest.teamnestapi.security.service;
+
+import java.util.function.Function;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamnest.teamnestapi.security.dto.AuthPrincipal;
+import com.teamnest.teamnestapi.tenant.shard.TenantRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Size-bounded cache of {@link AuthPrincipal} by email for the login path. Entries also expire
+ * after a fixed time so writes made on another node are picked up eventually. Sign-in tries each
+ * shard in turn, so entries are also keyed by the shard they were loaded from: a principal found
+ * on one shard must never answer the attempt against another.
+ */
+@Component
+public class AuthPrincipalCache {
+
+  private final Cache<PrincipalKey, AuthPrincipal> principals;
+  private final ObjectProvider<TenantRoutingDataSource> routingDataSource;
+
+  public AuthPrincipalCache(ObjectProvider<TenantRoutingDataSource> routingDataSource,
+      AuthPrincipalCacheProperties properties, MeterRegistry meterRegistry) {
+    this.routingDataSource = routingDataSource;
+    this.principals = Caffeine.newBuilder().maximumSize(properties.getMaximumSize())
+        .expireAfterWrite(properties.getExpireAfterWrite()).recordStats().build();
+    CaffeineCacheMetrics.monitor(meterRegistry, principals, "authPrincipals");
+  }
+
+  public AuthPrincipal get(String email, Function<String, AuthPrincipal> loader) {
+    PrincipalKey key = new PrincipalKey(TenantRoutingDataSource.currentShard(), email);
+    return principals.get(key, ignored -> loader.apply(email));
+  }
+
+  public void evict(String email) {
+    invalidate(email);
+    // Evict again after commit so a login racing the write cannot re-cache the old row
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          invalidate(email);
+        }
+      });
+    }
+  }
+
+  public void evictAll() {
+    principals.invalidateAll();
+  }
+
+  private void invalidate(String email) {
+    principals.invalidate(new PrincipalKey(null, email));
+    TenantRoutingDataSource router = routingDataSource.getIfAvailable();
+    if (router != null) {
+      router.getShardKeys()
+          .forEach(shardKey -> principals.invalidate(new PrincipalKey(shardKey, email)));
+    }
+  }
+
+
+  private record PrincipalKey(String shardKey, String email) {
+  }
+
+}
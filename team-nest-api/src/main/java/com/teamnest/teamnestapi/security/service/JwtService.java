@@ -1,10 +1,10 @@
 package com.teamnest.teamnestapi.security.service;
 
 import java.util.UUID;
-import com.teamnest.teamnestapi.user.entity.User;
+import com.teamnest.teamnestapi.security.dto.AuthPrincipal;
 
 public interface JwtService {
-  String generateAccessToken(User user);
+  String generateAccessToken(AuthPrincipal principal);
 
   long getAccessTokenTtlSeconds();
 
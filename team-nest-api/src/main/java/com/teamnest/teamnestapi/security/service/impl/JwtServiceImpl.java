@@ -10,9 +10,13 @@ import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.stereotype.Service;
+import com.teamnest.teamnestapi.security.dto.AuthPrincipal;
+import com.teamnest.teamnestapi.security.jwt.JwtKeyRing;
 import com.teamnest.teamnestapi.security.jwt.JwtProperties;
+import com.teamnest.teamnestapi.security.permission.PermissionCatalog;
+import com.teamnest.teamnestapi.security.permission.PermissionClaimAuthoritiesConverter;
+import com.teamnest.teamnestapi.security.permission.TenantPermissionEvaluator;
 import com.teamnest.teamnestapi.security.service.JwtService;
-import com.teamnest.teamnestapi.user.entity.User;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -22,24 +26,31 @@ public class JwtServiceImpl implements JwtService {
   private final JwtEncoder jwtEncoder;
   private final JwtDecoder jwtDecoder;
   private final JwtProperties properties;
+  private final JwtKeyRing jwtKeyRing;
+  private final PermissionCatalog permissionCatalog;
 
   @Override
-  public String generateAccessToken(User user) {
+  public String generateAccessToken(AuthPrincipal principal) {
     Instant now = Instant.now();
-    List<String> roles = user.getRoles().stream().map(
-        role -> role.getName().startsWith("ROLE_") ? role.getName().substring(5) : role.getName())
-        .toList();
+    List<String> roles = principal.roleNames().stream()
+        .map(roleName -> roleName.startsWith("ROLE_") ? roleName.substring(5) : roleName).toList();
 
     JwtClaimsSet.Builder claimsBuilder =
-        JwtClaimsSet.builder().issuer(properties.getIssuer()).subject(user.getEmail()).issuedAt(now)
+        JwtClaimsSet.builder().issuer(properties.getIssuer()).subject(principal.email()).issuedAt(now)
             .expiresAt(now.plusMillis(properties.getAccessTokenExpirationMs()))
-            .id(UUID.randomUUID().toString()).claim("roles", roles).claim("userId", user.getId());
+            .id(UUID.randomUUID().toString()).claim("roles", roles).claim("userId", principal.id())
+            .claim(TenantPermissionEvaluator.ROLE_IDS_CLAIM,
+                principal.roleIds().stream().map(UUID::toString).toList())
+            .claim(PermissionClaimAuthoritiesConverter.PERMISSIONS_CLAIM,
+                permissionCatalog.encode(principal.permissionCodes()));
 
-    if (user.getTenantId() != null) {
-      claimsBuilder.claim("tenantId", user.getTenantId().toString());
+    if (principal.tenantId() != null) {
+      claimsBuilder.claim("tenantId", principal.tenantId().toString());
     }
 
-    return jwtEncoder.encode(JwtEncoderParameters.from(claimsBuilder.build())).getTokenValue();
+    return jwtEncoder
+        .encode(JwtEncoderParameters.from(jwtKeyRing.getSigningHeader(), claimsBuilder.build()))
+        .getTokenValue();
   }
 
   @Override
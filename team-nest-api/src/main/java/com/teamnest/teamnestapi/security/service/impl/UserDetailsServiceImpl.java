@@ -1,24 +1,36 @@
 package com.teamnest.teamnestapi.security.service.impl;
 
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import com.teamnest.teamnestapi.security.dto.AuthPrincipal;
 import com.teamnest.teamnestapi.security.dto.UserDetailsDTO;
-import com.teamnest.teamnestapi.user.entity.User;
+import com.teamnest.teamnestapi.security.service.AuthPrincipalCache;
 import com.teamnest.teamnestapi.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
   private final UserService userService;
+  private final AuthPrincipalCache authPrincipalCache;
 
   @Override
   public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-    User user = userService.getUserByEmail(username);
-    return new UserDetailsDTO(user);
+    AuthPrincipal principal = authPrincipalCache.get(username, userService::getAuthPrincipal);
+    return new UserDetailsDTO(principal);
+  }
+
+  @Override
+  public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+    AuthPrincipal principal = ((UserDetailsDTO) userDetails).getPrincipal();
+    if (userService.upgradePasswordHash(principal.id(), principal.passwordHash(), newPassword)) {
+      authPrincipalCache.evict(principal.email());
+    }
+    return userDetails;
   }
 
 }
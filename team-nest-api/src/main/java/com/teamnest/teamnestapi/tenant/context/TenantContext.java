@@ -2,20 +2,30 @@ package com.teamnest.teamnestapi.tenant.context;
 
 import java.util.UUID;
 
+/**
+ * The tenant of the current unit of work, bound with a {@link ScopedValue} for the extent of a
+ * {@link #runWithTenant} or {@link #callWithTenant} call. The binding is cleared automatically
+ * when the call returns and is inherited by structured subtasks; use {@link TenantTaskDecorator}
+ * to carry it into executor tasks.
+ */
 public final class TenantContext {
 
-  private static final ThreadLocal<UUID> TENANT = new ThreadLocal<>();
+  private static final ScopedValue<UUID> TENANT = ScopedValue.newInstance();
 
-  public static void setTenant(UUID tenantId) {
-    TENANT.set(tenantId);
+  private TenantContext() {
   }
 
   public static UUID getTenantId() {
-    return TENANT.get();
+    return TENANT.orElse(null);
   }
 
-  public static void clear() {
-    TENANT.remove();
+  public static void runWithTenant(UUID tenantId, Runnable action) {
+    ScopedValue.where(TENANT, tenantId).run(action);
+  }
+
+  public static <T, X extends Throwable> T callWithTenant(UUID tenantId,
+      ScopedValue.CallableOp<T, X> action) throws X {
+    return ScopedValue.where(TENANT, tenantId).call(action);
   }
 
 }
@@ -0,0 +1,30 @@
+package com.teamnest.teamnestapi.tenant.context;
+
+import java.util.UUID;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+import com.teamnest.teamnestapi.tenant.shard.TenantRoutingDataSource;
+
+/**
+ * Re-binds the submitting thread's tenant, and any explicitly bound shard, around tasks run by
+ * Spring-managed executors and the password hashing pool.
+ */
+@Component
+public class TenantTaskDecorator implements TaskDecorator {
+
+  @Override
+  public Runnable decorate(Runnable runnable) {
+    UUID tenantId = TenantContext.getTenantId();
+    String shardKey = TenantRoutingDataSource.currentShard();
+    Runnable task = runnable;
+    if (tenantId != null) {
+      Runnable withoutTenant = task;
+      task = () -> TenantContext.runWithTenant(tenantId, withoutTenant);
+    }
+    if (shardKey != null) {
+      Runnable withoutShard = task;
+      task = () -> TenantRoutingDataSource.runOnShard(shardKey, withoutShard);
+    }
+    return task;
+  }
+}
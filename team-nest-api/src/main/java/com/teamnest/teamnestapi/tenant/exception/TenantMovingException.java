@@ -0,0 +1,10 @@
+package com.teamnest.teamnestapi.tenant.exception;
+
+import com.teamnest.teamnestapi.common.enums.ApiErrorMsg;
+import com.teamnest.teamnestapi.exception.ServiceUnavailableException;
+
+public class TenantMovingException extends ServiceUnavailableException {
+  public TenantMovingException(long retryAfterSeconds) {
+    super(ApiErrorMsg.TENANT_MOVING.getMessage(), retryAfterSeconds);
+  }
+}
@@ -0,0 +1,20 @@
+package com.teamnest.teamnestapi.tenant.exception;
+
+import lombok.Getter;
+
+/**
+ * Signals that work run through
+ * {@link com.teamnest.teamnestapi.tenant.shard.TenantShardLookup#callOnAnyShard} found no matching
+ * row on the bound shard, so the next shard is tried. When no shard matches, {@code notFound} is
+ * thrown instead.
+ */
+@Getter
+public class TenantShardMissException extends RuntimeException {
+  private final RuntimeException notFound;
+
+  public TenantShardMissException(RuntimeException notFound) {
+    super(notFound.getMessage(), notFound, false, false);
+    this.notFound = notFound;
+  }
+
+}
@@ -31,20 +31,29 @@ public class TenantFilter extends OncePerRequestFilter {
   protected void doFilterInternal(@NonNull HttpServletRequest request,
       @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
       throws ServletException, IOException {
-    try {
-      if (TenantContext.getTenantId() == null) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication instanceof JwtAuthenticationToken jwtAuth) {
-         UUID tenantId = jwtService.extractTenantIdFromToken(jwtAuth.getToken().getTokenValue());
-          if (tenantId != null) {
-            TenantContext.setTenant(tenantId);
-          }
-        }
+    UUID tenantId = null;
+    if (TenantContext.getTenantId() == null) {
+      Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+      if (authentication instanceof JwtAuthenticationToken jwtAuth) {
+        tenantId = jwtService.extractTenantIdFromToken(jwtAuth.getToken().getTokenValue());
       }
+    }
 
+    if (tenantId == null) {
       filterChain.doFilter(request, response);
-    } finally {
-      TenantContext.clear();
+      return;
+    }
+
+    // The tenant is bound only for the rest of the chain and unbound when it returns
+    try {
+      TenantContext.callWithTenant(tenantId, () -> {
+        filterChain.doFilter(request, response);
+        return null;
+      });
+    } catch (ServletException | IOException | RuntimeException ex) {
+      throw ex;
+    } catch (Exception ex) {
+      throw new ServletException(ex);
     }
   }
 }
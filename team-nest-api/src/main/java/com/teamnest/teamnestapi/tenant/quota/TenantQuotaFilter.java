@@ -0,0 +1,79 @@
+package com.teamnest.teamnestapi.tenant.quota;
+
+import java.io.IOException;
+import java.util.UUID;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamnest.teamnestapi.common.enums.ApiErrorMsg;
+import com.teamnest.teamnestapi.common.response.AppApiResponse;
+import com.teamnest.teamnestapi.tenant.context.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Applies the tenant's request quota once {@code TenantFilter} has bound the tenant, so a single
+ * tenant cannot hold the connection pool at the expense of the others.
+ */
+@Component
+public class TenantQuotaFilter extends OncePerRequestFilter {
+
+  private static final String RATE_LIMIT_LIMIT = "RateLimit-Limit";
+  private static final String RATE_LIMIT_REMAINING = "RateLimit-Remaining";
+  private static final String RATE_LIMIT_RESET = "RateLimit-Reset";
+
+  private final TenantQuotaProperties properties;
+  private final TenantRateLimiter tenantRateLimiter;
+  private final ObjectMapper objectMapper;
+  private final Counter rejectedCounter;
+
+  public TenantQuotaFilter(TenantQuotaProperties properties, TenantRateLimiter tenantRateLimiter,
+      ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.tenantRateLimiter = tenantRateLimiter;
+    this.objectMapper = objectMapper;
+    this.rejectedCounter = Counter.builder("tenant.quota.rejected")
+        .description("Requests rejected by the per-tenant quota").register(meterRegistry);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+    return !properties.isEnabled();
+  }
+
+  @Override
+  protected void doFilterInternal(@NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    UUID tenantId = TenantContext.getTenantId();
+    if (tenantId == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    TenantRateLimiter.Decision decision = tenantRateLimiter.tryAcquire(tenantId);
+    response.setHeader(RATE_LIMIT_LIMIT, String.valueOf(decision.limit()));
+    response.setHeader(RATE_LIMIT_REMAINING, String.valueOf(decision.remaining()));
+    response.setHeader(RATE_LIMIT_RESET, String.valueOf(decision.resetSeconds()));
+    if (decision.allowed()) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    rejectedCounter.increment();
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(), AppApiResponse
+        .error(ApiErrorMsg.TOO_MANY_REQUESTS.getMessage(), request.getRequestURI(), null));
+  }
+
+}
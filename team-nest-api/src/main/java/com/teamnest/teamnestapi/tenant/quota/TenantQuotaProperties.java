@@ -0,0 +1,40 @@
+package com.teamnest.teamnestapi.tenant.quota;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.tenant.quota")
+public class TenantQuotaProperties {
+
+  private boolean enabled = true;
+  private double rate = 50;
+  private int burst = 100;
+  private Duration idleEviction = Duration.ofMinutes(10);
+  private Map<UUID, Limit> overrides = new HashMap<>();
+
+  public Limit limitFor(UUID tenantId) {
+    Limit override = overrides.get(tenantId);
+    if (override != null) {
+      return override;
+    }
+    Limit limit = new Limit();
+    limit.setRate(rate);
+    limit.setBurst(burst);
+    return limit;
+  }
+
+  @Getter
+  @Setter
+  public static class Limit {
+    private double rate;
+    private int burst;
+  }
+
+}
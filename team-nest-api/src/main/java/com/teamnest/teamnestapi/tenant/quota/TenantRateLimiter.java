@@ -0,0 +1,84 @@
+package com.teamnest.teamnestapi.tenant.quota;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-tenant token bucket implemented as GCRA: each tenant holds a single theoretical arrival
+ * time that is advanced with a compare-and-set, so admitting a request never takes a lock. Buckets
+ * that have refilled and stayed idle for {@code app.tenant.quota.idle-eviction} are dropped.
+ */
+@Component
+public class TenantRateLimiter {
+
+  private final TenantQuotaProperties properties;
+  private final ConcurrentMap<UUID, Bucket> buckets = new ConcurrentHashMap<>();
+  private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+
+  public TenantRateLimiter(TenantQuotaProperties properties) {
+    this.properties = properties;
+  }
+
+  public Decision tryAcquire(UUID tenantId) {
+    long now = System.nanoTime();
+    evictIdle(now);
+
+    Bucket bucket = buckets.computeIfAbsent(tenantId,
+        id -> new Bucket(properties.limitFor(id), now));
+    while (true) {
+      long tat = bucket.theoreticalArrival.get();
+      long newTat = Math.max(tat, now) + bucket.emissionIntervalNanos;
+      long allowAt = newTat - bucket.burstToleranceNanos;
+      if (now - allowAt < 0) {
+        return new Decision(false, bucket.burst, 0, toSeconds(allowAt - now),
+            toSeconds(Math.max(tat, now) - now));
+      }
+      if (bucket.theoreticalArrival.compareAndSet(tat, newTat)) {
+        int remaining = (int) ((bucket.burstToleranceNanos - (newTat - now))
+            / bucket.emissionIntervalNanos);
+        return new Decision(true, bucket.burst, Math.max(0, remaining), 0,
+            toSeconds(newTat - now));
+      }
+    }
+  }
+
+  private void evictIdle(long now) {
+    long idleNanos = properties.getIdleEviction().toNanos();
+    long last = lastSweep.get();
+    if (now - last < idleNanos || !lastSweep.compareAndSet(last, now)) {
+      return;
+    }
+    // A bucket whose arrival time is in the past is full, so dropping it loses no state
+    buckets.values().removeIf(bucket -> now - bucket.theoreticalArrival.get() >= idleNanos);
+  }
+
+  private static long toSeconds(long nanos) {
+    return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanos + 999_999_999L));
+  }
+
+
+  public record Decision(boolean allowed, int limit, int remaining, long retryAfterSeconds,
+      long resetSeconds) {
+  }
+
+
+  private static final class Bucket {
+    private final int burst;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    private Bucket(TenantQuotaProperties.Limit limit, long now) {
+      this.burst = Math.max(1, limit.getBurst());
+      this.emissionIntervalNanos =
+          Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / limit.getRate()));
+      this.burstToleranceNanos = emissionIntervalNanos * burst;
+      this.theoreticalArrival = new AtomicLong(now);
+    }
+  }
+
+}
@@ -0,0 +1,61 @@
+package com.teamnest.teamnestapi.tenant.schema;
+
+import javax.sql.DataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.teamnest.teamnestapi.tenant.shard.TenantShardLookup;
+
+/**
+ * Opt-in schema-per-tenant mode: Hibernate resolves each session's schema from
+ * {@link TenantSchemaDirectory}, and the tenant-scoped {@code tenantFilter} keeps applying to the
+ * tables that remain shared in {@code public}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.tenant.schemas", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(TenantSchemaProperties.class)
+public class TenantSchemaConfig {
+
+  @Bean
+  TenantSchemaDirectory tenantSchemaDirectory(DataSource dataSource,
+      TenantSchemaProperties properties) {
+    return new TenantSchemaDirectory(dataSource, properties.getDirectoryCacheTtl());
+  }
+
+  @Bean
+  HibernatePropertiesCustomizer tenantSchemaHibernateCustomizer(DataSource dataSource,
+      TenantSchemaDirectory tenantSchemaDirectory) {
+    return hibernateProperties -> {
+      hibernateProperties.put(AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER,
+          new TenantSchemaConnectionProvider(dataSource));
+      hibernateProperties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER,
+          new TenantSchemaIdentifierResolver(tenantSchemaDirectory));
+    };
+  }
+
+  @Bean
+  TenantSchemaMigrator tenantSchemaMigrator(DataSource dataSource,
+      TenantSchemaDirectory tenantSchemaDirectory, TenantSchemaProperties properties,
+      TenantShardLookup tenantShardLookup) {
+    return new TenantSchemaMigrator(dataSource, tenantSchemaDirectory, properties,
+        tenantShardLookup);
+  }
+
+  @Bean
+  TenantSchemaProvisioner tenantSchemaProvisioner(DataSource dataSource,
+      TenantSchemaDirectory tenantSchemaDirectory, TenantSchemaMigrator tenantSchemaMigrator,
+      TenantSchemaProperties properties) {
+    return new TenantSchemaProvisioner(dataSource, tenantSchemaDirectory, tenantSchemaMigrator,
+        properties);
+  }
+
+  @Bean
+  TenantSchemaProvisionRunner tenantSchemaProvisionRunner(
+      TenantSchemaProvisioner tenantSchemaProvisioner) {
+    return new TenantSchemaProvisionRunner(tenantSchemaProvisioner);
+  }
+
+}
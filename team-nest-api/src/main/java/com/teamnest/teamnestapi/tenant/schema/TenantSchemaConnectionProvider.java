@@ -0,0 +1,83 @@
+package com.teamnest.teamnestapi.tenant.schema;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+
+/**
+ * Hands Hibernate connections whose {@code search_path} starts with the tenant's schema, falling
+ * back to {@code public} for the tables that are shared by every tenant.
+ */
+public class TenantSchemaConnectionProvider implements MultiTenantConnectionProvider<String> {
+
+  private final DataSource dataSource;
+
+  public TenantSchemaConnectionProvider(DataSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  @Override
+  public Connection getAnyConnection() throws SQLException {
+    return dataSource.getConnection();
+  }
+
+  @Override
+  public void releaseAnyConnection(Connection connection) throws SQLException {
+    connection.close();
+  }
+
+  @Override
+  public Connection getConnection(String tenantIdentifier) throws SQLException {
+    Connection connection = getAnyConnection();
+    if (!TenantSchemaDirectory.SHARED_SCHEMA.equals(tenantIdentifier)) {
+      try {
+        setSearchPath(connection, "\"" + TenantSchemaDirectory.requireValidSchemaName(
+            tenantIdentifier) + "\", public");
+      } catch (SQLException | RuntimeException ex) {
+        connection.close();
+        throw ex;
+      }
+    }
+    return connection;
+  }
+
+  @Override
+  public void releaseConnection(String tenantIdentifier, Connection connection)
+      throws SQLException {
+    try {
+      if (!TenantSchemaDirectory.SHARED_SCHEMA.equals(tenantIdentifier)) {
+        // Pooled connections must not keep the tenant's search_path
+        setSearchPath(connection, "public");
+      }
+    } finally {
+      releaseAnyConnection(connection);
+    }
+  }
+
+  @Override
+  public boolean supportsAggressiveRelease() {
+    return false;
+  }
+
+  @Override
+  public boolean isUnwrappableAs(Class<?> unwrapType) {
+    return unwrapType.isInstance(this);
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> unwrapType) {
+    if (isUnwrappableAs(unwrapType)) {
+      return unwrapType.cast(this);
+    }
+    throw new IllegalArgumentException("Cannot unwrap to " + unwrapType.getName());
+  }
+
+  private void setSearchPath(Connection connection, String searchPath) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("SET search_path TO " + searchPath);
+    }
+  }
+
+}
@@ -0,0 +1,100 @@
+package com.teamnest.teamnestapi.tenant.schema;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Maps tenants to their dedicated schema through the {@code tenant_schemas} table. Tenants
+ * without a row, or whose schema is still being provisioned, use the shared {@code public}
+ * tables.
+ */
+public class TenantSchemaDirectory {
+
+  public static final String SHARED_SCHEMA = "public";
+  private static final Pattern SCHEMA_NAME = Pattern.compile("tenant_[0-9a-f]{32}");
+  private static final String STATUS_ACTIVE = "ACTIVE";
+  private static final String STATUS_PROVISIONING = "PROVISIONING";
+  private static final SchemaAssignment SHARED = new SchemaAssignment(SHARED_SCHEMA, false);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Duration cacheTtl;
+  private final Cache<UUID, SchemaAssignment> schemas;
+
+  public TenantSchemaDirectory(DataSource dataSource, Duration cacheTtl) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.cacheTtl = cacheTtl;
+    this.schemas = Caffeine.newBuilder().expireAfterWrite(cacheTtl).build();
+  }
+
+  public String schemaOf(UUID tenantId) {
+    SchemaAssignment assignment = schemas.get(tenantId, this::load);
+    return assignment.provisioning() ? SHARED_SCHEMA : assignment.schema();
+  }
+
+  /**
+   * Whether the tenant's rows are being copied into its schema, during which writes are refused.
+   */
+  public boolean isProvisioning(UUID tenantId) {
+    return schemas.get(tenantId, this::load).provisioning();
+  }
+
+  public Duration getCacheTtl() {
+    return cacheTtl;
+  }
+
+  public List<String> findAllSchemas() {
+    return jdbcTemplate.queryForList("SELECT schema_name FROM tenant_schemas", String.class);
+  }
+
+  static String schemaNameFor(UUID tenantId) {
+    return "tenant_" + tenantId.toString().replace("-", "");
+  }
+
+  static String requireValidSchemaName(String schema) {
+    // Schema names end up in SET search_path, so only the generated form is accepted
+    if (!SHARED_SCHEMA.equals(schema) && !SCHEMA_NAME.matcher(schema).matches()) {
+      throw new IllegalStateException("Invalid tenant schema name: " + schema);
+    }
+    return schema;
+  }
+
+  void evict(UUID tenantId) {
+    schemas.invalidate(tenantId);
+  }
+
+  void markProvisioning(UUID tenantId, String schema) {
+    upsert(tenantId, schema, STATUS_PROVISIONING);
+  }
+
+  void assign(UUID tenantId, String schema) {
+    upsert(tenantId, schema, STATUS_ACTIVE);
+  }
+
+  private void upsert(UUID tenantId, String schema, String status) {
+    jdbcTemplate.update("""
+        INSERT INTO tenant_schemas (tenant_id, schema_name, status) VALUES (?, ?, ?)
+        ON CONFLICT (tenant_id) DO UPDATE SET status = EXCLUDED.status
+        """, tenantId, schema, status);
+    schemas.invalidate(tenantId);
+  }
+
+  private SchemaAssignment load(UUID tenantId) {
+    List<SchemaAssignment> rows = jdbcTemplate.query(
+        "SELECT schema_name, status FROM tenant_schemas WHERE tenant_id = ?",
+        (rs, rowNum) -> new SchemaAssignment(requireValidSchemaName(rs.getString("schema_name")),
+            STATUS_PROVISIONING.equals(rs.getString("status"))),
+        tenantId);
+    return rows.isEmpty() ? SHARED : rows.getFirst();
+  }
+
+
+  private record SchemaAssignment(String schema, boolean provisioning) {
+  }
+
+}
@@ -0,0 +1,29 @@
+package com.teamnest.teamnestapi.tenant.schema;
+
+import java.util.UUID;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import com.teamnest.teamnestapi.tenant.context.TenantContext;
+
+/**
+ * Uses the schema of the tenant bound in {@link TenantContext} as Hibernate's tenant identifier.
+ */
+public class TenantSchemaIdentifierResolver implements CurrentTenantIdentifierResolver<String> {
+
+  private final TenantSchemaDirectory directory;
+
+  public TenantSchemaIdentifierResolver(TenantSchemaDirectory directory) {
+    this.directory = directory;
+  }
+
+  @Override
+  public String resolveCurrentTenantIdentifier() {
+    UUID tenantId = TenantContext.getTenantId();
+    return tenantId != null ? directory.schemaOf(tenantId) : TenantSchemaDirectory.SHARED_SCHEMA;
+  }
+
+  @Override
+  public boolean validateExistingCurrentSessions() {
+    return false;
+  }
+
+}
@@ -0,0 +1,43 @@
+package com.teamnest.teamnestapi.tenant.schema;
+
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import com.teamnest.teamnestapi.tenant.shard.TenantShardLookup;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Brings every dedicated tenant schema up to date at startup, after Spring Boot's Flyway has
+ * migrated {@code public} and before the application accepts requests.
+ */
+@Slf4j
+public class TenantSchemaMigrator implements SmartInitializingSingleton {
+
+  private final DataSource dataSource;
+  private final TenantSchemaDirectory directory;
+  private final TenantSchemaProperties properties;
+  private final TenantShardLookup tenantShardLookup;
+
+  public TenantSchemaMigrator(DataSource dataSource, TenantSchemaDirectory directory,
+      TenantSchemaProperties properties, TenantShardLookup tenantShardLookup) {
+    this.dataSource = dataSource;
+    this.directory = directory;
+    this.properties = properties;
+    this.tenantShardLookup = tenantShardLookup;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    tenantShardLookup.runOnEachShard(() -> directory.findAllSchemas().forEach(this::migrate));
+  }
+
+  public void migrate(String schema) {
+    int applied = Flyway.configure().dataSource(dataSource)
+        .schemas(TenantSchemaDirectory.requireValidSchemaName(schema)).createSchemas(true)
+        .locations(properties.getMigrationLocations()).load().migrate().migrationsExecuted;
+    if (applied > 0) {
+      log.info("Applied {} migrations to tenant schema {}", applied, schema);
+    }
+  }
+
+}
@@ -0,0 +1,17 @@
+package com.teamnest.teamnestapi.tenant.schema;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.tenant.schemas")
+public class TenantSchemaProperties {
+
+  private boolean enabled = false;
+  private Duration directoryCacheTtl = Duration.ofSeconds(30);
+  private String[] migrationLocations = {"classpath:db/tenant-migration"};
+
+}
@@ -0,0 +1,31 @@
+package com.teamnest.teamnestapi.tenant.schema;
+
+import java.util.UUID;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+/**
+ * Provisions a dedicated schema when the application is started with
+ * {@code --provision-tenant-schema=<tenant id>}; otherwise does nothing.
+ */
+public class TenantSchemaProvisionRunner implements ApplicationRunner {
+
+  static final String PROVISION_OPTION = "provision-tenant-schema";
+
+  private final TenantSchemaProvisioner tenantSchemaProvisioner;
+
+  public TenantSchemaProvisionRunner(TenantSchemaProvisioner tenantSchemaProvisioner) {
+    this.tenantSchemaProvisioner = tenantSchemaProvisioner;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (!args.containsOption(PROVISION_OPTION)) {
+      return;
+    }
+    for (String tenantId : args.getOptionValues(PROVISION_OPTION)) {
+      tenantSchemaProvisioner.provision(UUID.fromString(tenantId));
+    }
+  }
+
+}
@@ -0,0 +1,103 @@
+package com.teamnest.teamnestapi.tenant.schema;
+
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.teamnest.teamnestapi.tenant.context.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Gives a tenant its own schema and moves its projects, members and tasks into it. The schema is
+ * first published as provisioning and writes for the tenant are refused for one directory cache
+ * TTL, so every node has stopped writing to the shared tables before they are copied. Once the
+ * copy is live, the shared rows are kept for another TTL, for nodes still reading them, and then
+ * deleted. Running it again later is safe.
+ */
+@Slf4j
+public class TenantSchemaProvisioner {
+
+  private final DataSource dataSource;
+  private final TenantSchemaDirectory directory;
+  private final TenantSchemaMigrator migrator;
+  private final TenantSchemaProperties properties;
+
+  public TenantSchemaProvisioner(DataSource dataSource, TenantSchemaDirectory directory,
+      TenantSchemaMigrator migrator, TenantSchemaProperties properties) {
+    this.dataSource = dataSource;
+    this.directory = directory;
+    this.migrator = migrator;
+    this.properties = properties;
+  }
+
+  public void provision(UUID tenantId) {
+    String schema = TenantSchemaDirectory.schemaNameFor(tenantId);
+    // Bound so that, with sharding, everything runs on the tenant's shard
+    TenantContext.runWithTenant(tenantId, () -> {
+      migrator.migrate(schema);
+      directory.evict(tenantId);
+      // A schema that is already live only needs leftover shared rows swept into it
+      boolean live = schema.equals(directory.schemaOf(tenantId));
+      if (!live) {
+        directory.markProvisioning(tenantId, schema);
+        awaitDirectoryPropagation();
+      }
+      inTransaction(() -> copyWorkspaceRows(tenantId, schema));
+      if (!live) {
+        directory.assign(tenantId, schema);
+        awaitDirectoryPropagation();
+      }
+      inTransaction(() -> deleteSharedRows(schema));
+    });
+    log.info("Tenant {} now uses schema {}", tenantId, schema);
+  }
+
+  private void copyWorkspaceRows(UUID tenantId, String schema) {
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    String target = quote(schema);
+    jdbcTemplate.update("INSERT INTO " + target + ".projects"
+        + " SELECT * FROM public.projects WHERE tenant_id = ? ON CONFLICT DO NOTHING", tenantId);
+    jdbcTemplate.update("INSERT INTO " + target + ".projects_users"
+        + " SELECT pu.* FROM public.projects_users pu"
+        + " JOIN public.projects p ON p.id = pu.project_id WHERE p.tenant_id = ?"
+        + " ON CONFLICT DO NOTHING", tenantId);
+    jdbcTemplate.update("INSERT INTO " + target + ".tasks"
+        + " SELECT * FROM public.tasks WHERE tenant_id = ? ON CONFLICT DO NOTHING", tenantId);
+  }
+
+  private void deleteSharedRows(String schema) {
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    String target = quote(schema);
+    // Only rows that reached the schema are removed; a project keeps its public row while
+    // anything still references it there
+    jdbcTemplate.update("DELETE FROM public.tasks t USING " + target + ".tasks s"
+        + " WHERE t.id = s.id");
+    jdbcTemplate.update("DELETE FROM public.projects_users pu USING " + target
+        + ".projects_users s WHERE pu.project_id = s.project_id AND pu.user_id = s.user_id");
+    jdbcTemplate.update("DELETE FROM public.projects p USING " + target + ".projects s"
+        + " WHERE p.id = s.id"
+        + " AND NOT EXISTS (SELECT 1 FROM public.tasks t WHERE t.project_id = p.id)"
+        + " AND NOT EXISTS (SELECT 1 FROM public.projects_users pu"
+        + " WHERE pu.project_id = p.id)");
+  }
+
+  private void inTransaction(Runnable action) {
+    new TransactionTemplate(new DataSourceTransactionManager(dataSource))
+        .executeWithoutResult(status -> action.run());
+  }
+
+  private static String quote(String schema) {
+    return "\"" + schema + "\"";
+  }
+
+  private void awaitDirectoryPropagation() {
+    try {
+      Thread.sleep(properties.getDirectoryCacheTtl());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while provisioning tenant schema", ex);
+    }
+  }
+
+}
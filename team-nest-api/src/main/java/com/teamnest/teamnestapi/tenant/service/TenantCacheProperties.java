@@ -0,0 +1,15 @@
+package com.teamnest.teamnestapi.tenant.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.tenant.cache")
+public class TenantCacheProperties {
+
+  private long maximumSize = 10_000;
+  private Duration expireAfterWrite = Duration.ofMinutes(30);
+}
@@ -0,0 +1,45 @@
+package com.teamnest.teamnestapi.tenant.service;
+
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamnest.teamnestapi.tenant.dto.TenantResDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Size- and time-bounded cache of {@link TenantResDTO} by tenant id. Cached values are shared
+ * between requests and must not be modified.
+ */
+@Component
+public class TenantMetadataCache {
+
+  private final Cache<UUID, TenantResDTO> tenants;
+
+  public TenantMetadataCache(TenantCacheProperties properties, MeterRegistry meterRegistry) {
+    this.tenants = Caffeine.newBuilder().maximumSize(properties.getMaximumSize())
+        .expireAfterWrite(properties.getExpireAfterWrite()).recordStats().build();
+    CaffeineCacheMetrics.monitor(meterRegistry, tenants, "tenants");
+  }
+
+  public TenantResDTO get(UUID tenantId, Function<UUID, TenantResDTO> loader) {
+    return tenants.get(tenantId, loader);
+  }
+
+  public void evict(UUID tenantId) {
+    tenants.invalidate(tenantId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          tenants.invalidate(tenantId);
+        }
+      });
+    }
+  }
+
+}
@@ -2,12 +2,15 @@ package com.teamnest.teamnestapi.tenant.service;
 
 import java.util.UUID;
 import com.teamnest.teamnestapi.tenant.dto.TenantInfoDTO;
+import com.teamnest.teamnestapi.tenant.dto.TenantResDTO;
 import com.teamnest.teamnestapi.tenant.entity.Tenant;
 
 public interface TenantService {
 
   Tenant getTenantByTenantId(UUID tenantId);
 
+  TenantResDTO getTenantResDto(UUID tenantId);
+
   Tenant createTenant(Tenant tenant);
 
   Tenant save(Tenant tenant);
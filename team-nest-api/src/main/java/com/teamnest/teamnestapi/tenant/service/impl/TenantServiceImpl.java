@@ -4,10 +4,12 @@ import java.util.UUID;
 import org.springframework.stereotype.Service;
 import com.teamnest.teamnestapi.exception.ResourceNotFoundException;
 import com.teamnest.teamnestapi.tenant.dto.TenantInfoDTO;
+import com.teamnest.teamnestapi.tenant.dto.TenantResDTO;
 import com.teamnest.teamnestapi.tenant.entity.Tenant;
 import com.teamnest.teamnestapi.tenant.exception.TenantNameAlreadyExistsException;
 import com.teamnest.teamnestapi.tenant.mapper.TenantMapper;
 import com.teamnest.teamnestapi.tenant.repository.TenantRepository;
+import com.teamnest.teamnestapi.tenant.service.TenantMetadataCache;
 import com.teamnest.teamnestapi.tenant.service.TenantService;
 import lombok.RequiredArgsConstructor;
 
@@ -17,6 +19,7 @@ public class TenantServiceImpl implements TenantService {
 
   private final TenantRepository tenantRepository;
   private final TenantMapper tenantMapper;
+  private final TenantMetadataCache tenantMetadataCache;
 
   @Override
   public Tenant createTenant(Tenant tenant) {
@@ -33,15 +36,25 @@ public class TenantServiceImpl implements TenantService {
         () -> new ResourceNotFoundException("Tenant with ID '" + tenantId + "' not found."));
   }
 
+  @Override
+  public TenantResDTO getTenantResDto(UUID tenantId) {
+    return tenantMetadataCache.get(tenantId,
+        id -> tenantMapper.toTenantResDto(getTenantByTenantId(id)));
+  }
+
   @Override
   public Tenant save(Tenant tenant) {
-    return tenantRepository.save(tenant);
+    Tenant savedTenant = tenantRepository.save(tenant);
+    tenantMetadataCache.evict(savedTenant.getId());
+    return savedTenant;
   }
 
   @Override
   public Tenant updateTenant(UUID tenantId, TenantInfoDTO tenantInfoDto) {
     Tenant tenant = getTenantByTenantId(tenantId);
     tenantMapper.toTenant(tenantInfoDto, tenant);
-    return tenantRepository.save(tenant);
+    Tenant savedTenant = tenantRepository.save(tenant);
+    tenantMetadataCache.evict(tenantId);
+    return savedTenant;
   }
 }
@@ -0,0 +1,60 @@
+package com.teamnest.teamnestapi.tenant.shard;
+
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import com.teamnest.teamnestapi.tenant.context.TenantContext;
+
+/**
+ * Routes each connection to the shard of the tenant bound in {@link TenantContext}, or to an
+ * explicitly bound shard for work that runs before the tenant is known. Connections without
+ * either go to the default shard.
+ */
+public class TenantRoutingDataSource extends AbstractRoutingDataSource {
+
+  private static final ScopedValue<String> SHARD = ScopedValue.newInstance();
+
+  private final TenantShardDirectory directory;
+  private final TenantShardDataSources shardDataSources;
+
+  public TenantRoutingDataSource(TenantShardDataSources shardDataSources,
+      TenantShardDirectory directory) {
+    this.directory = directory;
+    this.shardDataSources = shardDataSources;
+    setTargetDataSources(shardDataSources.asTargetDataSources());
+    setDefaultTargetDataSource(shardDataSources.getDefault());
+    // A directory row naming an unknown shard is a misconfiguration, not a reason to fall back
+    setLenientFallback(false);
+  }
+
+  public static <T, X extends Throwable> T callOnShard(String shardKey,
+      ScopedValue.CallableOp<T, X> action) throws X {
+    return ScopedValue.where(SHARD, shardKey).call(action);
+  }
+
+  public static void runOnShard(String shardKey, Runnable action) {
+    ScopedValue.where(SHARD, shardKey).run(action);
+  }
+
+  /**
+   * The shard bound explicitly by {@link #callOnShard}, or {@code null} when routing by tenant.
+   */
+  public static String currentShard() {
+    return SHARD.orElse(null);
+  }
+
+  public Set<String> getShardKeys() {
+    return shardDataSources.getShardKeys();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    String shardKey = SHARD.orElse(null);
+    if (shardKey != null) {
+      return shardKey;
+    }
+    UUID tenantId = TenantContext.getTenantId();
+    return tenantId != null ? directory.shardOf(tenantId) : null;
+  }
+
+}
@@ -0,0 +1,51 @@
+package com.teamnest.teamnestapi.tenant.shard;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.sql.DataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * One connection pool per shard, with the default shard first.
+ */
+public class TenantShardDataSources implements AutoCloseable {
+
+  private final String defaultShard;
+  private final Map<String, HikariDataSource> dataSources;
+
+  public TenantShardDataSources(String defaultShard, Map<String, HikariDataSource> dataSources) {
+    this.defaultShard = defaultShard;
+    this.dataSources = new LinkedHashMap<>(dataSources);
+  }
+
+  public String getDefaultShard() {
+    return defaultShard;
+  }
+
+  public Set<String> getShardKeys() {
+    return dataSources.keySet();
+  }
+
+  public DataSource getDefault() {
+    return get(defaultShard);
+  }
+
+  public DataSource get(String shardKey) {
+    DataSource dataSource = dataSources.get(shardKey);
+    if (dataSource == null) {
+      throw new IllegalArgumentException("Unknown tenant shard: " + shardKey);
+    }
+    return dataSource;
+  }
+
+  Map<Object, Object> asTargetDataSources() {
+    return new LinkedHashMap<>(dataSources);
+  }
+
+  @Override
+  public void close() {
+    dataSources.values().forEach(HikariDataSource::close);
+  }
+
+}
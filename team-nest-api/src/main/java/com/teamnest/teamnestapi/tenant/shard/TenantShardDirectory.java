@@ -0,0 +1,82 @@
+package com.teamnest.teamnestapi.tenant.shard;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Maps tenants to shards through the {@code tenant_shards} table on the default shard. Lookups are
+ * cached for {@code app.tenant.sharding.directory-cache-ttl}, which is also how long other nodes
+ * may take to notice a tenant being moved.
+ */
+public class TenantShardDirectory {
+
+  private static final String STATUS_ACTIVE = "ACTIVE";
+  private static final String STATUS_MOVING = "MOVING";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final String defaultShard;
+  private final Duration cacheTtl;
+  private final Cache<UUID, ShardAssignment> assignments;
+
+  public TenantShardDirectory(DataSource directoryDataSource, String defaultShard,
+      Duration cacheTtl) {
+    this.jdbcTemplate = new JdbcTemplate(directoryDataSource);
+    this.defaultShard = defaultShard;
+    this.cacheTtl = cacheTtl;
+    this.assignments = Caffeine.newBuilder().expireAfterWrite(cacheTtl).build();
+  }
+
+  public String shardOf(UUID tenantId) {
+    return resolve(tenantId).shardKey();
+  }
+
+  public boolean isMoving(UUID tenantId) {
+    return resolve(tenantId).moving();
+  }
+
+  public Duration getCacheTtl() {
+    return cacheTtl;
+  }
+
+  ShardAssignment resolve(UUID tenantId) {
+    return assignments.get(tenantId, this::load);
+  }
+
+  ShardAssignment load(UUID tenantId) {
+    List<ShardAssignment> rows =
+        jdbcTemplate.query("SELECT shard_key, status FROM tenant_shards WHERE tenant_id = ?",
+            (rs, rowNum) -> new ShardAssignment(rs.getString("shard_key"),
+                STATUS_MOVING.equals(rs.getString("status"))),
+            tenantId);
+    return rows.isEmpty() ? new ShardAssignment(defaultShard, false) : rows.getFirst();
+  }
+
+  void markMoving(UUID tenantId, String shardKey) {
+    upsert(tenantId, shardKey, STATUS_MOVING);
+  }
+
+  void assign(UUID tenantId, String shardKey) {
+    upsert(tenantId, shardKey, STATUS_ACTIVE);
+  }
+
+  private void upsert(UUID tenantId, String shardKey, String status) {
+    jdbcTemplate.update("""
+        INSERT INTO tenant_shards (tenant_id, shard_key, status, last_modified_at)
+        VALUES (?, ?, ?, CURRENT_TIMESTAMP)
+        ON CONFLICT (tenant_id) DO UPDATE
+        SET shard_key = EXCLUDED.shard_key, status = EXCLUDED.status,
+            last_modified_at = EXCLUDED.last_modified_at
+        """, tenantId, shardKey, status);
+    assignments.invalidate(tenantId);
+  }
+
+
+  record ShardAssignment(String shardKey, boolean moving) {
+  }
+
+}
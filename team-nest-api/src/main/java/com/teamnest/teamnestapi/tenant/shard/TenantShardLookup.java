@@ -0,0 +1,132 @@
+package com.teamnest.teamnestapi.tenant.shard;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.teamnest.teamnestapi.exception.ResourceNotFoundException;
+import com.teamnest.teamnestapi.tenant.exception.TenantMovingException;
+import com.teamnest.teamnestapi.tenant.exception.TenantShardMissException;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Runs work that starts before a tenant is known (sign-in, token refresh, password reset,
+ * maintenance jobs) against the shards. Without sharding the work simply runs once.
+ *
+ * <p>Such work only learns the tenant after it has found the user, so the transaction manager's
+ * moving fence cannot apply to it. It must call {@link #requireTenantShard} before writing.
+ */
+@Component
+public class TenantShardLookup {
+
+  private final ObjectProvider<TenantRoutingDataSource> routingDataSource;
+  private final ObjectProvider<TenantShardDirectory> shardDirectory;
+  private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+  public TenantShardLookup(ObjectProvider<TenantRoutingDataSource> routingDataSource,
+      ObjectProvider<TenantShardDirectory> shardDirectory,
+      ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+    this.routingDataSource = routingDataSource;
+    this.shardDirectory = shardDirectory;
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  /**
+   * Tries each shard, default first, until the action does not throw
+   * {@link TenantShardMissException}; any other error ends the search. Must not be called inside
+   * a transaction, as each attempt has to connect to the shard it is bound to.
+   */
+  public <T> T callOnAnyShard(Supplier<T> action) {
+    TenantRoutingDataSource router = routingDataSource.getIfAvailable();
+    TenantShardMissException miss = null;
+    if (router == null) {
+      try {
+        return action.get();
+      } catch (TenantShardMissException ex) {
+        throw ex.getNotFound();
+      }
+    }
+    for (String shardKey : router.getShardKeys()) {
+      try {
+        return callOnShard(shardKey, action);
+      } catch (TenantShardMissException ex) {
+        if (miss == null) {
+          miss = ex;
+        }
+      }
+    }
+    throw miss.getNotFound();
+  }
+
+  public void runOnAnyShard(Runnable action) {
+    callOnAnyShard(() -> {
+      action.run();
+      return null;
+    });
+  }
+
+  /**
+   * Fences a write for {@code tenantId} made under an explicit shard binding. It is refused while
+   * the tenant is moving. Rows still on a shard the tenant has moved away from count as a miss,
+   * so {@link #callOnAnyShard} goes on to the tenant's current shard.
+   */
+  public void requireTenantShard(UUID tenantId) {
+    String boundShard = TenantRoutingDataSource.currentShard();
+    TenantShardDirectory directory = shardDirectory.getIfAvailable();
+    if (boundShard == null || directory == null) {
+      return;
+    }
+    requireNotMoving(tenantId);
+    if (!boundShard.equals(directory.shardOf(tenantId))) {
+      throw new TenantShardMissException(
+          new ResourceNotFoundException("Tenant is served by another shard"));
+    }
+  }
+
+  /**
+   * Like {@link #requireTenantShard}, but lets work on a stale copy through; for writes such as
+   * revocations that are repeated on every shard anyway.
+   */
+  public void requireNotMoving(UUID tenantId) {
+    TenantShardDirectory directory = shardDirectory.getIfAvailable();
+    if (TenantRoutingDataSource.currentShard() != null && directory != null
+        && directory.isMoving(tenantId)) {
+      throw new TenantMovingException(directory.getCacheTtl().toSeconds());
+    }
+  }
+
+  public void runOnEachShard(Runnable action) {
+    TenantRoutingDataSource router = routingDataSource.getIfAvailable();
+    if (router == null) {
+      action.run();
+      return;
+    }
+    for (String shardKey : router.getShardKeys()) {
+      callOnShard(shardKey, () -> {
+        action.run();
+        return null;
+      });
+    }
+  }
+
+  /**
+   * Open-in-view binds one EntityManager to the request, and it keeps the first connection it
+   * acquires. It is set aside for the attempt so repositories open one on the bound shard.
+   */
+  private <T> T callOnShard(String shardKey, Supplier<T> action) {
+    EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+    Object requestEntityManager =
+        factory != null && !TransactionSynchronizationManager.isActualTransactionActive()
+            ? TransactionSynchronizationManager.unbindResourceIfPossible(factory)
+            : null;
+    try {
+      return TenantRoutingDataSource.callOnShard(shardKey, action::get);
+    } finally {
+      if (requestEntityManager != null) {
+        TransactionSynchronizationManager.bindResource(factory, requestEntityManager);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,36 @@
+package com.teamnest.teamnestapi.tenant.shard;
+
+import java.util.List;
+import java.util.UUID;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+/**
+ * Moves a tenant when the application is started with
+ * {@code --move-tenant=<tenant id> --to-shard=<shard key>}; otherwise does nothing.
+ */
+public class TenantShardMoveRunner implements ApplicationRunner {
+
+  static final String MOVE_TENANT_OPTION = "move-tenant";
+  static final String TO_SHARD_OPTION = "to-shard";
+
+  private final TenantShardMover tenantShardMover;
+
+  public TenantShardMoveRunner(TenantShardMover tenantShardMover) {
+    this.tenantShardMover = tenantShardMover;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (!args.containsOption(MOVE_TENANT_OPTION)) {
+      return;
+    }
+    List<String> targetShard = args.getOptionValues(TO_SHARD_OPTION);
+    if (targetShard == null || targetShard.isEmpty()) {
+      throw new IllegalArgumentException("--" + TO_SHARD_OPTION + " is required");
+    }
+    UUID tenantId = UUID.fromString(args.getOptionValues(MOVE_TENANT_OPTION).getFirst());
+    tenantShardMover.moveTenant(tenantId, targetShard.getFirst());
+  }
+
+}
@@ -0,0 +1,191 @@
+package com.teamnest.teamnestapi.tenant.shard;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves a tenant's rows from its current shard to another one. While the tenant is marked as
+ * moving, write transactions for it are refused by the transaction manager, and sign-in, token
+ * refresh and password reset refuse to write through {@link TenantShardLookup#requireTenantShard}.
+ * The mover waits one directory cache TTL after each directory change so every node has seen it,
+ * and reads the source in a single repeatable-read transaction so the copy is one snapshot.
+ */
+@Slf4j
+public class TenantShardMover {
+
+  private static final int COPY_BATCH_SIZE = 500;
+  private static final String TENANT_ROLES = "SELECT id FROM roles WHERE tenant_id = :tenantId";
+  private static final String TENANT_USERS = "SELECT id FROM users WHERE tenant_id = :tenantId";
+
+  // In foreign-key order; global roles the tenant's users hold are copied but never deleted
+  private static final List<TenantTable> TENANT_TABLES = List.of(
+      new TenantTable("tenants", "id = :tenantId", "id = :tenantId"),
+      new TenantTable("roles",
+          "tenant_id = :tenantId OR (tenant_id IS NULL AND id IN (SELECT ur.role_id"
+              + " FROM users_roles ur JOIN users u ON u.id = ur.user_id"
+              + " WHERE u.tenant_id = :tenantId))",
+          "tenant_id = :tenantId"),
+      new TenantTable("roles_permissions",
+          "role_id IN (" + TENANT_ROLES + ") OR role_id IN (SELECT ur.role_id FROM users_roles ur"
+              + " JOIN users u ON u.id = ur.user_id WHERE u.tenant_id = :tenantId)",
+          "role_id IN (" + TENANT_ROLES + ")"),
+      new TenantTable("users", "tenant_id = :tenantId", "tenant_id = :tenantId"),
+      new TenantTable("users_roles", "user_id IN (" + TENANT_USERS + ")",
+          "user_id IN (" + TENANT_USERS + ")"),
+      new TenantTable("refresh_tokens", "user_id IN (" + TENANT_USERS + ")",
+          "user_id IN (" + TENANT_USERS + ")"),
+      new TenantTable("password_reset_tokens", "user_id IN (" + TENANT_USERS + ")",
+          "user_id IN (" + TENANT_USERS + ")"),
+      new TenantTable("projects", "tenant_id = :tenantId", "tenant_id = :tenantId"),
+      new TenantTable("projects_users",
+          "project_id IN (SELECT id FROM projects WHERE tenant_id = :tenantId)",
+          "project_id IN (SELECT id FROM projects WHERE tenant_id = :tenantId)"),
+      new TenantTable("tasks", "tenant_id = :tenantId", "tenant_id = :tenantId"));
+
+  private final TenantShardDataSources shardDataSources;
+  private final TenantShardDirectory directory;
+
+  public TenantShardMover(TenantShardDataSources shardDataSources,
+      TenantShardDirectory directory) {
+    this.shardDataSources = shardDataSources;
+    this.directory = directory;
+  }
+
+  public void moveTenant(UUID tenantId, String targetShard) {
+    String sourceShard = directory.load(tenantId).shardKey();
+    if (sourceShard.equals(targetShard)) {
+      log.info("Tenant {} is already on shard {}", tenantId, targetShard);
+      return;
+    }
+    DataSource source = shardDataSources.get(sourceShard);
+    DataSource target = shardDataSources.get(targetShard);
+    Integer dedicatedSchemas = new NamedParameterJdbcTemplate(source).queryForObject(
+        "SELECT count(*) FROM tenant_schemas WHERE tenant_id = :tenantId",
+        Map.of("tenantId", tenantId), Integer.class);
+    if (dedicatedSchemas != null && dedicatedSchemas > 0) {
+      throw new IllegalStateException("Tenant " + tenantId + " has a dedicated schema");
+    }
+
+    directory.markMoving(tenantId, sourceShard);
+    try {
+      awaitDirectoryPropagation();
+      inTransaction(target, () -> inSnapshot(source, () -> copyTenant(tenantId, source, target)));
+    } catch (RuntimeException ex) {
+      directory.assign(tenantId, sourceShard);
+      throw ex;
+    }
+    directory.assign(tenantId, targetShard);
+    log.info("Tenant {} moved from shard {} to {}", tenantId, sourceShard, targetShard);
+
+    // Nodes still routing reads to the source shard keep working until their cache expires
+    awaitDirectoryPropagation();
+    inTransaction(source, () -> deleteTenant(tenantId, source));
+  }
+
+  private void copyTenant(UUID tenantId, DataSource source, DataSource target) {
+    NamedParameterJdbcTemplate sourceJdbc = new NamedParameterJdbcTemplate(source);
+    NamedParameterJdbcTemplate targetJdbc = new NamedParameterJdbcTemplate(target);
+    Map<String, Object> params = Map.of("tenantId", tenantId);
+    for (TenantTable table : TENANT_TABLES) {
+      BatchCopier copier = new BatchCopier(table.name(), targetJdbc);
+      sourceJdbc.query("SELECT * FROM " + table.name() + " WHERE " + table.copyWhere(), params,
+          copier);
+      copier.flush();
+      log.info("Copied {} rows of {} for tenant {}", copier.copied, table.name(), tenantId);
+    }
+  }
+
+  private void deleteTenant(UUID tenantId, DataSource source) {
+    NamedParameterJdbcTemplate sourceJdbc = new NamedParameterJdbcTemplate(source);
+    Map<String, Object> params = Map.of("tenantId", tenantId);
+    for (TenantTable table : TENANT_TABLES.reversed()) {
+      sourceJdbc.update("DELETE FROM " + table.name() + " WHERE " + table.deleteWhere(), params);
+    }
+  }
+
+  private void inTransaction(DataSource dataSource, Runnable action) {
+    new TransactionTemplate(new DataSourceTransactionManager(dataSource))
+        .executeWithoutResult(status -> action.run());
+  }
+
+  private void inSnapshot(DataSource dataSource, Runnable action) {
+    TransactionTemplate template =
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    template.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    template.setReadOnly(true);
+    template.executeWithoutResult(status -> action.run());
+  }
+
+  private void awaitDirectoryPropagation() {
+    try {
+      Thread.sleep(directory.getCacheTtl());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while moving tenant", ex);
+    }
+  }
+
+
+  private record TenantTable(String name, String copyWhere, String deleteWhere) {
+  }
+
+
+  private static final class BatchCopier implements RowCallbackHandler {
+    private final String table;
+    private final NamedParameterJdbcTemplate targetJdbc;
+    private final List<Object[]> batch = new ArrayList<>(COPY_BATCH_SIZE);
+    private String insertSql;
+    private int copied;
+
+    private BatchCopier(String table, NamedParameterJdbcTemplate targetJdbc) {
+      this.table = table;
+      this.targetJdbc = targetJdbc;
+    }
+
+    @Override
+    public void processRow(ResultSet rs) throws SQLException {
+      ResultSetMetaData metaData = rs.getMetaData();
+      int columnCount = metaData.getColumnCount();
+      if (insertSql == null) {
+        List<String> columns = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+          columns.add(metaData.getColumnName(i));
+        }
+        insertSql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+            + String.join(", ", Collections.nCopies(columnCount, "?"))
+            + ") ON CONFLICT DO NOTHING";
+      }
+      Object[] row = new Object[columnCount];
+      for (int i = 1; i <= columnCount; i++) {
+        row[i - 1] = rs.getObject(i);
+      }
+      batch.add(row);
+      if (batch.size() >= COPY_BATCH_SIZE) {
+        flush();
+      }
+    }
+
+    private void flush() {
+      if (batch.isEmpty()) {
+        return;
+      }
+      targetJdbc.getJdbcOperations().batchUpdate(insertSql, batch);
+      copied += batch.size();
+      batch.clear();
+    }
+  }
+
+}
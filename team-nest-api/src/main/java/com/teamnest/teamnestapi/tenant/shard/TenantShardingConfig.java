@@ -0,0 +1,89 @@
+package com.teamnest.teamnestapi.tenant.shard;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Replaces the single application DataSource with {@link TenantRoutingDataSource}. The default
+ * shard keeps using {@code spring.datasource} and is migrated by Spring Boot's Flyway; the other
+ * shards are migrated here with the same locations before the routing DataSource is created.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.tenant.sharding", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(TenantShardingProperties.class)
+public class TenantShardingConfig {
+
+  @Bean(destroyMethod = "close")
+  TenantShardDataSources tenantShardDataSources(TenantShardingProperties properties,
+      @Value("${spring.datasource.url}") String url,
+      @Value("${spring.datasource.username}") String username,
+      @Value("${spring.datasource.password}") String password,
+      @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+      @Value("${spring.flyway.enabled:true}") boolean flywayEnabled,
+      @Value("${spring.flyway.locations:classpath:db/migration}") String[] flywayLocations,
+      @Value("${spring.flyway.out-of-order:false}") boolean flywayOutOfOrder) {
+    Map<String, HikariDataSource> dataSources = new LinkedHashMap<>();
+    dataSources.put(properties.getDefaultShard(),
+        newPool(properties.getDefaultShard(), url, username, password, maximumPoolSize));
+    properties.getShards().forEach((shardKey, shard) -> {
+      if (dataSources.containsKey(shardKey)) {
+        throw new IllegalStateException("Shard " + shardKey + " is already the default shard");
+      }
+      HikariDataSource dataSource = newPool(shardKey, shard.getUrl(), shard.getUsername(),
+          shard.getPassword(), shard.getMaximumPoolSize());
+      if (flywayEnabled) {
+        Flyway.configure().dataSource(dataSource).locations(flywayLocations)
+            .outOfOrder(flywayOutOfOrder).load().migrate();
+      }
+      dataSources.put(shardKey, dataSource);
+    });
+    return new TenantShardDataSources(properties.getDefaultShard(), dataSources);
+  }
+
+  @Bean
+  TenantShardDirectory tenantShardDirectory(TenantShardDataSources tenantShardDataSources,
+      TenantShardingProperties properties) {
+    return new TenantShardDirectory(tenantShardDataSources.getDefault(),
+        properties.getDefaultShard(), properties.getDirectoryCacheTtl());
+  }
+
+  @Bean
+  @Primary
+  TenantRoutingDataSource dataSource(TenantShardDataSources tenantShardDataSources,
+      TenantShardDirectory tenantShardDirectory) {
+    return new TenantRoutingDataSource(tenantShardDataSources, tenantShardDirectory);
+  }
+
+  @Bean
+  TenantShardMover tenantShardMover(TenantShardDataSources tenantShardDataSources,
+      TenantShardDirectory tenantShardDirectory) {
+    return new TenantShardMover(tenantShardDataSources, tenantShardDirectory);
+  }
+
+  @Bean
+  TenantShardMoveRunner tenantShardMoveRunner(TenantShardMover tenantShardMover) {
+    return new TenantShardMoveRunner(tenantShardMover);
+  }
+
+  private static HikariDataSource newPool(String shardKey, String url, String username,
+      String password, int maximumPoolSize) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setPoolName("shard-" + shardKey);
+    dataSource.setJdbcUrl(url);
+    dataSource.setUsername(username);
+    dataSource.setPassword(password);
+    dataSource.setMaximumPoolSize(maximumPoolSize);
+    dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
+    return dataSource;
+  }
+
+}
@@ -0,0 +1,33 @@
+package com.teamnest.teamnestapi.tenant.shard;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The default shard is {@code spring.datasource}, which also holds the shard directory;
+ * {@link #shards} lists the additional databases tenants can be moved to.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.tenant.sharding")
+public class TenantShardingProperties {
+
+  private boolean enabled = false;
+  private String defaultShard = "primary";
+  private Duration directoryCacheTtl = Duration.ofSeconds(30);
+  private Map<String, Shard> shards = new LinkedHashMap<>();
+
+  @Getter
+  @Setter
+  public static class Shard {
+    private String url;
+    private String username;
+    private String password;
+    private int maximumPoolSize = 10;
+  }
+
+}
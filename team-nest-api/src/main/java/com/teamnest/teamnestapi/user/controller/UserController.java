@@ -0,0 +1,69 @@
+package com.teamnest.teamnestapi.user.controller;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamnest.teamnestapi.tenant.context.TenantContext;
+import com.teamnest.teamnestapi.tenant.exception.TenantNotResolvedException;
+import com.teamnest.teamnestapi.user.dto.UserImportResultDTO;
+import com.teamnest.teamnestapi.user.service.UserImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "User V1", description = "APIs for managing the users of a workspace.")
+@RequestMapping("/api/v1/users")
+public class UserController {
+
+  private final UserImportService userImportService;
+  private final ObjectMapper objectMapper;
+
+  @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE},
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @PreAuthorize("hasPermission(null, 'USER_CREATE')")
+  @Operation(summary = "Bulk import users",
+      description = "Stream a CSV file (with an email, firstName, lastName, password, avatar header) or NDJSON objects with the same fields. One result line is streamed back per row as each chunk commits. Rows without a password are created as invited users who set one through password reset.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Per-row results streamed as NDJSON"),
+      @ApiResponse(responseCode = "403", description = "Missing the USER_CREATE permission")})
+  public ResponseEntity<StreamingResponseBody> importUsers(
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+      HttpServletRequest request) {
+    UUID tenantId = TenantContext.getTenantId();
+    if (tenantId == null) {
+      throw new TenantNotResolvedException();
+    }
+
+    // The body is written on an async thread once this method returns, so the tenant is rebound
+    StreamingResponseBody body = outputStream -> TenantContext.callWithTenant(tenantId, () -> {
+      userImportService.importUsers(request.getInputStream(), contentType, results -> {
+        try {
+          for (UserImportResultDTO result : results) {
+            outputStream.write(objectMapper.writeValueAsBytes(result));
+            outputStream.write('\n');
+          }
+          outputStream.flush();
+        } catch (IOException ex) {
+          throw new UncheckedIOException(ex);
+        }
+      });
+      return null;
+    });
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+  }
+}
@@ -0,0 +1,13 @@
+package com.teamnest.teamnestapi.user.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of one row of a user import, streamed as one NDJSON line")
+public record UserImportResultDTO(
+    @Schema(description = "1-based data row number in the uploaded file", example = "1") long row,
+    @Schema(description = "Email address from the row", example = "jane.doe@example.com")
+    String email,
+    @Schema(description = "Whether the user was created, skipped as a duplicate, or rejected")
+    UserImportStatus status,
+    @Schema(description = "Reason the row was skipped or rejected") String message) {
+}
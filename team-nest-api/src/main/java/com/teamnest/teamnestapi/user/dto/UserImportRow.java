@@ -0,0 +1,13 @@
+package com.teamnest.teamnestapi.user.dto;
+
+/**
+ * One parsed line of a user import. {@code error} is set when the line could not be parsed, in
+ * which case the other fields may be {@code null}.
+ */
+public record UserImportRow(long rowNumber, String email, String firstName, String lastName,
+    String password, String avatar, String error) {
+
+  public static UserImportRow unreadable(long rowNumber, String error) {
+    return new UserImportRow(rowNumber, null, null, null, null, null, error);
+  }
+}
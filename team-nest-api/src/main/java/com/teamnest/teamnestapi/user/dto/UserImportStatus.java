@@ -0,0 +1,5 @@
+package com.teamnest.teamnestapi.user.dto;
+
+public enum UserImportStatus {
+  CREATED, DUPLICATE, INVALID
+}
@@ -15,8 +15,22 @@ public interface PasswordResetTokenRepository extends JpaRepository<PasswordRese
 
   Optional<PasswordResetToken> findByTokenHash(String tokenHash);
 
+  // Native so the id, which the token is derived from, is known before the row is written
+  @Modifying
+  @Query(value = "INSERT INTO password_reset_tokens (id, user_id, token_hash, expires_at) "
+      + "VALUES (:id, :userId, :tokenHash, :expiresAt)", nativeQuery = true)
+  void insertToken(@Param("id") UUID id, @Param("userId") UUID userId,
+      @Param("tokenHash") String tokenHash, @Param("expiresAt") Instant expiresAt);
+
   @Modifying
   @Query("UPDATE PasswordResetToken t SET t.usedAt = :usedAt WHERE t.user.id = :userId AND t.usedAt IS NULL")
   int markAllUnusedTokensAsUsedByUserId(@Param("userId") UUID userId,
       @Param("usedAt") Instant usedAt);
+
+  @Modifying
+  @Query(value = "DELETE FROM password_reset_tokens WHERE id IN (SELECT id FROM password_reset_tokens "
+      + "WHERE expires_at < :cutoff OR used_at < :cutoff LIMIT :batchSize "
+      + "FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+  int deleteExpiredOrUsedBefore(@Param("cutoff") Instant cutoff,
+      @Param("batchSize") int batchSize);
 }
@@ -1,10 +1,15 @@
 package com.teamnest.teamnestapi.user.repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import com.teamnest.teamnestapi.security.dto.AuthPrincipalRow;
 import com.teamnest.teamnestapi.user.entity.User;
 
 @Repository
@@ -13,4 +18,14 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
   @EntityGraph(attributePaths = "roles")
   Optional<User> findByEmail(String email);
+
+  @Query("SELECT u.id AS userId, u.tenantId AS tenantId, u.email AS email, u.password AS password, "
+      + "u.status AS status, r.id AS roleId, r.name AS roleName, p.key AS permissionCode "
+      + "FROM User u LEFT JOIN u.roles r LEFT JOIN r.permissions p WHERE u.email = :email")
+  List<AuthPrincipalRow> findAuthPrincipalRowsByEmail(@Param("email") String email);
+
+  @Modifying
+  @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :currentPassword")
+  int updatePasswordIfUnchanged(@Param("userId") UUID userId,
+      @Param("currentPassword") String currentPassword, @Param("newPassword") String newPassword);
 }
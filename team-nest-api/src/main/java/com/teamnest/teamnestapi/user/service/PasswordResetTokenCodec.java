@@ -0,0 +1,76 @@
+package com.teamnest.teamnestapi.user.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Derives a password reset token from its row id with an HMAC. The row keeps only a hash of the
+ * token and a queued email keeps only the id, so the link can be rebuilt at send time without the
+ * token ever being stored.
+ */
+@Component
+public class PasswordResetTokenCodec {
+
+  /**
+   * Template variable holding the token id; the dispatcher turns it into {@code resetUrl}.
+   */
+  public static final String TOKEN_ID_VARIABLE = "resetTokenId";
+
+  private static final String ALGORITHM = "HmacSHA256";
+
+  private final SecretKeySpec key;
+  private final String resetPasswordUrl;
+
+  public PasswordResetTokenCodec(
+      @Value("${app.auth.password-reset-token-secret}") String secret,
+      @Value("${app.frontend.reset-password-url}") String resetPasswordUrl) {
+    if (!StringUtils.hasText(secret)) {
+      throw new IllegalStateException("APP_PASSWORD_RESET_TOKEN_SECRET must be set");
+    }
+    this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    this.resetPasswordUrl = resetPasswordUrl;
+  }
+
+  public String tokenFor(UUID tokenId) {
+    ByteBuffer id = ByteBuffer.allocate(16).putLong(tokenId.getMostSignificantBits())
+        .putLong(tokenId.getLeastSignificantBits());
+    try {
+      Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(key);
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal(id.array()));
+    } catch (GeneralSecurityException ex) {
+      throw new IllegalStateException("Failed to derive reset token", ex);
+    }
+  }
+
+  /**
+   * The form a token is stored and looked up in.
+   */
+  public String hash(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (GeneralSecurityException ex) {
+      throw new IllegalStateException("Failed to process reset token", ex);
+    }
+  }
+
+  public String hashFor(UUID tokenId) {
+    return hash(tokenFor(tokenId));
+  }
+
+  public String resetUrlFor(UUID tokenId) {
+    // URL-safe Base64 needs no further encoding
+    return resetPasswordUrl + "?token=" + tokenFor(tokenId);
+  }
+}
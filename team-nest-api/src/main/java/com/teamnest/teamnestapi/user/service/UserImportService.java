@@ -0,0 +1,19 @@
+package com.teamnest.teamnestapi.user.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.http.MediaType;
+import com.teamnest.teamnestapi.user.dto.UserImportResultDTO;
+
+public interface UserImportService {
+
+  /**
+   * Creates users for the current tenant from a CSV or NDJSON body, handing each chunk's results
+   * to {@code onChunk} as soon as that chunk is committed.
+   */
+  void importUsers(InputStream body, MediaType contentType,
+      Consumer<List<UserImportResultDTO>> onChunk) throws IOException;
+
+}
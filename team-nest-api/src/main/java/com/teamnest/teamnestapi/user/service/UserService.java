@@ -1,6 +1,8 @@
 package com.teamnest.teamnestapi.user.service;
 
+import java.util.UUID;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import com.teamnest.teamnestapi.security.dto.AuthPrincipal;
 import com.teamnest.teamnestapi.user.entity.User;
 
 public interface UserService {
@@ -9,6 +11,12 @@ public interface UserService {
 
   User getUserByEmail(String email) throws UsernameNotFoundException;
 
+  AuthPrincipal getAuthPrincipal(String email) throws UsernameNotFoundException;
+
+  User getReferenceById(UUID userId);
+
   User save(User user);
 
+  boolean upgradePasswordHash(UUID userId, String currentPasswordHash, String newPasswordHash);
+
 }
@@ -0,0 +1,179 @@
+package com.teamnest.teamnestapi.user.service.impl;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamnest.teamnestapi.user.dto.UserImportRow;
+
+/**
+ * Reads an import body one line at a time, so only the current line is ever held in memory. CSV
+ * input needs a header row naming the columns; quoted fields may not span lines. Passwords are
+ * kept exactly as given; other fields are trimmed.
+ */
+abstract class UserImportReader implements Closeable {
+
+  private final BufferedReader reader;
+  private long rowNumber;
+
+  private UserImportReader(InputStream body) {
+    this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+  }
+
+  static UserImportReader csv(InputStream body) {
+    return new CsvReader(body);
+  }
+
+  static UserImportReader ndjson(InputStream body, ObjectMapper objectMapper) {
+    return new NdjsonReader(body, objectMapper);
+  }
+
+  /**
+   * Returns the next data row, or {@code null} at the end of the body. Blank lines are skipped.
+   */
+  UserImportRow next() throws IOException {
+    String line;
+    do {
+      line = reader.readLine();
+      if (line == null) {
+        return null;
+      }
+    } while (line.isBlank() || skip(line));
+    return parse(++rowNumber, line);
+  }
+
+  /**
+   * Lets a format consume lines that are not data rows, such as a header.
+   */
+  boolean skip(String line) {
+    return false;
+  }
+
+  abstract UserImportRow parse(long rowNumber, String line);
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private static String trimToNull(String value) {
+    if (value == null) {
+      return null;
+    }
+    String trimmed = value.strip();
+    return trimmed.isEmpty() ? null : trimmed;
+  }
+
+  private static String emptyToNull(String value) {
+    return value == null || value.isEmpty() ? null : value;
+  }
+
+
+  private static final class CsvReader extends UserImportReader {
+
+    private Map<String, Integer> columns;
+
+    private CsvReader(InputStream body) {
+      super(body);
+    }
+
+    @Override
+    boolean skip(String line) {
+      if (columns != null) {
+        return false;
+      }
+      columns = new HashMap<>();
+      List<String> header = split(line.startsWith("\uFEFF") ? line.substring(1) : line);
+      for (int i = 0; i < header.size(); i++) {
+        // firstName, first_name and FIRST NAME all name the same column
+        columns.put(header.get(i).replaceAll("[\\s_-]", "").toLowerCase(Locale.ROOT), i);
+      }
+      return true;
+    }
+
+    @Override
+    UserImportRow parse(long rowNumber, String line) {
+      if (!columns.containsKey("email")) {
+        return UserImportRow.unreadable(rowNumber, "CSV header has no email column");
+      }
+      List<String> fields = split(line);
+      return new UserImportRow(rowNumber, trimToNull(field(fields, "email")),
+          trimToNull(field(fields, "firstname")), trimToNull(field(fields, "lastname")),
+          emptyToNull(field(fields, "password")), trimToNull(field(fields, "avatar")), null);
+    }
+
+    private String field(List<String> fields, String column) {
+      Integer index = columns.get(column);
+      return index == null || index >= fields.size() ? null : fields.get(index);
+    }
+
+    private static List<String> split(String line) {
+      List<String> fields = new ArrayList<>();
+      StringBuilder field = new StringBuilder();
+      boolean quoted = false;
+      for (int i = 0; i < line.length(); i++) {
+        char c = line.charAt(i);
+        if (quoted) {
+          if (c != '"') {
+            field.append(c);
+          } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+            field.append('"');
+            i++;
+          } else {
+            quoted = false;
+          }
+        } else if (c == '"') {
+          quoted = true;
+        } else if (c == ',') {
+          fields.add(field.toString());
+          field.setLength(0);
+        } else {
+          field.append(c);
+        }
+      }
+      fields.add(field.toString());
+      return fields;
+    }
+  }
+
+
+  private static final class NdjsonReader extends UserImportReader {
+
+    private final ObjectMapper objectMapper;
+
+    private NdjsonReader(InputStream body, ObjectMapper objectMapper) {
+      super(body);
+      this.objectMapper = objectMapper;
+    }
+
+    @Override
+    UserImportRow parse(long rowNumber, String line) {
+      JsonNode node;
+      try {
+        node = objectMapper.readTree(line);
+      } catch (JsonProcessingException ex) {
+        return UserImportRow.unreadable(rowNumber, "Line is not valid JSON");
+      }
+      if (!node.isObject()) {
+        return UserImportRow.unreadable(rowNumber, "Line is not a JSON object");
+      }
+      return new UserImportRow(rowNumber, trimToNull(text(node, "email")),
+          trimToNull(text(node, "firstName")), trimToNull(text(node, "lastName")),
+          emptyToNull(text(node, "password")), trimToNull(text(node, "avatar")), null);
+    }
+
+    private static String text(JsonNode node, String field) {
+      return node.path(field).textValue();
+    }
+  }
+}
@@ -0,0 +1,352 @@
+package com.teamnest.teamnestapi.user.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamnest.teamnestapi.common.entity.UuidV7Generator;
+import com.teamnest.teamnestapi.common.service.EmailService;
+import com.teamnest.teamnestapi.role.service.RoleService;
+import com.teamnest.teamnestapi.tenant.context.TenantContext;
+import com.teamnest.teamnestapi.tenant.exception.TenantNotResolvedException;
+import com.teamnest.teamnestapi.user.dto.UserImportResultDTO;
+import com.teamnest.teamnestapi.user.dto.UserImportRow;
+import com.teamnest.teamnestapi.user.dto.UserImportStatus;
+import com.teamnest.teamnestapi.user.service.PasswordResetTokenCodec;
+import com.teamnest.teamnestapi.user.service.UserImportService;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Imports users a chunk at a time: one query finds the chunk's already-registered emails,
+ * passwords are hashed in parallel on a pool of its own so imports never queue behind sign-ins,
+ * and the users and their role links are written with one set-based insert each. Rows without a
+ * password are created as invited users: each gets a reset token and an invite email, queued in
+ * the chunk's transaction, through which they set their password.
+ */
+@Service
+public class UserImportServiceImpl implements UserImportService, DisposableBean {
+
+  // Never matches a password: BCrypt rejects it as malformed
+  private static final String INVITED_PASSWORD_HASH = "{bcrypt}!invited";
+  // BCrypt rejects longer passwords outright
+  private static final int MAX_PASSWORD_BYTES = 72;
+  private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+  private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+  private static final String FIND_EXISTING_EMAILS =
+      "SELECT email FROM users WHERE email = ANY(?)";
+  private static final String INSERT_USERS = """
+      INSERT INTO users (id, first_name, last_name, avatar, email, password, tenant_id)
+      SELECT u.id, u.first_name, u.last_name, u.avatar, u.email, u.password, ?
+      FROM unnest(?::uuid[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[],
+          ?::varchar[]) AS u(id, first_name, last_name, avatar, email, password)
+      ON CONFLICT (email) DO NOTHING
+      RETURNING id, email""";
+  private static final String INSERT_USER_ROLES =
+      "INSERT INTO users_roles (user_id, role_id) SELECT unnest(?::uuid[]), ?";
+  private static final String INSERT_INVITE_TOKENS = """
+      INSERT INTO password_reset_tokens (id, user_id, token_hash, expires_at)
+      SELECT t.id, t.user_id, t.token_hash, ?
+      FROM unnest(?::uuid[], ?::uuid[], ?::varchar[]) AS t(id, user_id, token_hash)""";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final PasswordEncoder passwordEncoder;
+  private final RoleService roleService;
+  private final ObjectMapper objectMapper;
+  private final EmailService emailService;
+  private final PasswordResetTokenCodec passwordResetTokenCodec;
+  private final MeterRegistry meterRegistry;
+  private final int chunkSize;
+  private final Duration inviteExpiration;
+  private final ThreadPoolExecutor hashingExecutor;
+
+  public UserImportServiceImpl(JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager, PasswordEncoder passwordEncoder,
+      RoleService roleService, ObjectMapper objectMapper, EmailService emailService,
+      PasswordResetTokenCodec passwordResetTokenCodec, MeterRegistry meterRegistry,
+      @Value("${app.user.import.chunk-size:500}") int chunkSize,
+      @Value("${app.user.import.hashing-threads:2}") int hashingThreads,
+      @Value("${app.user.import.invite-expiration:7d}") Duration inviteExpiration) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.passwordEncoder = passwordEncoder;
+    this.roleService = roleService;
+    this.objectMapper = objectMapper;
+    this.emailService = emailService;
+    this.passwordResetTokenCodec = passwordResetTokenCodec;
+    this.meterRegistry = meterRegistry;
+    this.chunkSize = chunkSize;
+    this.inviteExpiration = inviteExpiration;
+    // Concurrent imports are not limited, so the queue holds one chunk and an import that finds
+    // it full hashes on its own thread, which also keeps it from reading further ahead
+    this.hashingExecutor = new ThreadPoolExecutor(hashingThreads, hashingThreads, 0L,
+        TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(chunkSize),
+        new CustomizableThreadFactory("user-import-hash-"), (task, executor) -> {
+          // Unlike CallerRunsPolicy, never drop the task and leave its future waiting forever
+          if (executor.isShutdown()) {
+            throw new RejectedExecutionException("User import hashing pool is shut down");
+          }
+          task.run();
+        });
+  }
+
+  @Override
+  public void importUsers(InputStream body, MediaType contentType,
+      Consumer<List<UserImportResultDTO>> onChunk) throws IOException {
+    UUID tenantId = TenantContext.getTenantId();
+    if (tenantId == null) {
+      throw new TenantNotResolvedException();
+    }
+    UUID roleId = roleService.getDefaultRole().getId();
+    Set<String> seenEmails = new HashSet<>();
+
+    try (UserImportReader reader = TEXT_CSV.isCompatibleWith(contentType)
+        ? UserImportReader.csv(body)
+        : UserImportReader.ndjson(body, objectMapper)) {
+      List<UserImportRow> chunk = new ArrayList<>(chunkSize);
+      for (UserImportRow row = reader.next(); row != null; row = reader.next()) {
+        chunk.add(row);
+        if (chunk.size() == chunkSize) {
+          onChunk.accept(importChunk(tenantId, roleId, chunk, seenEmails));
+          chunk = new ArrayList<>(chunkSize);
+        }
+      }
+      if (!chunk.isEmpty()) {
+        onChunk.accept(importChunk(tenantId, roleId, chunk, seenEmails));
+      }
+    }
+  }
+
+  @Override
+  public void destroy() {
+    hashingExecutor.shutdown();
+  }
+
+  private List<UserImportResultDTO> importChunk(UUID tenantId, UUID roleId,
+      List<UserImportRow> rows, Set<String> seenEmails) {
+    UserImportResultDTO[] results = new UserImportResultDTO[rows.size()];
+    List<Integer> candidates = new ArrayList<>(rows.size());
+    for (int i = 0; i < rows.size(); i++) {
+      UserImportRow row = rows.get(i);
+      String error = validate(row);
+      if (error != null) {
+        results[i] = result(row, UserImportStatus.INVALID, error);
+      } else if (!seenEmails.add(row.email())) {
+        results[i] = result(row, UserImportStatus.DUPLICATE, "Email repeated in this import");
+      } else {
+        candidates.add(i);
+      }
+    }
+
+    Set<String> existing =
+        findExistingEmails(candidates.stream().map(i -> rows.get(i).email()).toList());
+    List<UserImportRow> toInsert = new ArrayList<>(candidates.size());
+    for (int i : candidates) {
+      UserImportRow row = rows.get(i);
+      if (existing.contains(row.email())) {
+        results[i] = result(row, UserImportStatus.DUPLICATE, "Email already registered");
+      } else {
+        toInsert.add(row);
+      }
+    }
+
+    if (!toInsert.isEmpty()) {
+      List<String> passwordHashes = hashPasswords(toInsert);
+      Set<String> inserted = transactionTemplate.execute(status -> {
+        Map<String, UUID> userIds = insertUsers(tenantId, roleId, toInsert, passwordHashes);
+        inviteUsers(toInsert, userIds);
+        return userIds.keySet();
+      });
+      for (int i : candidates) {
+        UserImportRow row = rows.get(i);
+        if (results[i] == null) {
+          // A row the insert skipped lost a race with a user registered since the check
+          results[i] = inserted.contains(row.email())
+              ? result(row, UserImportStatus.CREATED, null)
+              : result(row, UserImportStatus.DUPLICATE, "Email already registered");
+        }
+      }
+    }
+
+    List<UserImportResultDTO> chunkResults = List.of(results);
+    chunkResults.forEach(result -> meterRegistry
+        .counter("user.import.rows", "status", result.status().name()).increment());
+    return chunkResults;
+  }
+
+  private String validate(UserImportRow row) {
+    if (row.error() != null) {
+      return row.error();
+    }
+    if (row.email() == null || row.email().length() > 250
+        || !EMAIL.matcher(row.email()).matches()) {
+      return "A valid email of at most 250 characters is required";
+    }
+    if (row.firstName() == null || row.firstName().length() > 100) {
+      return "First name is required and must be at most 100 characters";
+    }
+    if (row.lastName() != null && row.lastName().length() > 100) {
+      return "Last name must be at most 100 characters";
+    }
+    if (row.avatar() != null && row.avatar().length() > 2000) {
+      return "Avatar must be at most 2000 characters";
+    }
+    if (row.password() != null
+        && row.password().getBytes(StandardCharsets.UTF_8).length > MAX_PASSWORD_BYTES) {
+      return "Password must be at most 72 bytes";
+    }
+    return null;
+  }
+
+  private Set<String> findExistingEmails(List<String> emails) {
+    if (emails.isEmpty()) {
+      return Set.of();
+    }
+    // Emails are unique across tenants, so the check deliberately ignores the tenant
+    return jdbcTemplate.execute((ConnectionCallback<Set<String>>) connection -> {
+      try (PreparedStatement statement = connection.prepareStatement(FIND_EXISTING_EMAILS)) {
+        statement.setArray(1, connection.createArrayOf("varchar", emails.toArray()));
+        Set<String> existing = new HashSet<>();
+        try (ResultSet resultSet = statement.executeQuery()) {
+          while (resultSet.next()) {
+            existing.add(resultSet.getString(1));
+          }
+        }
+        return existing;
+      }
+    });
+  }
+
+  private List<String> hashPasswords(List<UserImportRow> rows) {
+    List<Future<String>> futures = rows.stream()
+        .<Future<String>>map(row -> row.password() == null
+            ? CompletableFuture.completedFuture(INVITED_PASSWORD_HASH)
+            : hashingExecutor.submit(() -> passwordEncoder.encode(row.password())))
+        .toList();
+    List<String> hashes = new ArrayList<>(futures.size());
+    try {
+      for (Future<String> future : futures) {
+        hashes.add(future.get());
+      }
+    } catch (ExecutionException ex) {
+      throw new IllegalStateException("Password hashing failed", ex.getCause());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      futures.forEach(future -> future.cancel(true));
+      throw new IllegalStateException("Interrupted while hashing passwords", ex);
+    }
+    return hashes;
+  }
+
+  private Map<String, UUID> insertUsers(UUID tenantId, UUID roleId, List<UserImportRow> rows,
+      List<String> passwordHashes) {
+    int size = rows.size();
+    Object[] ids = new Object[size];
+    Object[] firstNames = new Object[size];
+    Object[] lastNames = new Object[size];
+    Object[] avatars = new Object[size];
+    Object[] emails = new Object[size];
+    for (int i = 0; i < size; i++) {
+      UserImportRow row = rows.get(i);
+      ids[i] = UuidV7Generator.nextUuid();
+      firstNames[i] = row.firstName();
+      lastNames[i] = row.lastName() != null ? row.lastName() : "";
+      avatars[i] = row.avatar();
+      emails[i] = row.email();
+    }
+
+    return jdbcTemplate.execute((ConnectionCallback<Map<String, UUID>>) connection -> {
+      Map<String, UUID> inserted = new HashMap<>();
+      try (PreparedStatement statement = connection.prepareStatement(INSERT_USERS)) {
+        statement.setObject(1, tenantId);
+        statement.setArray(2, connection.createArrayOf("uuid", ids));
+        statement.setArray(3, connection.createArrayOf("varchar", firstNames));
+        statement.setArray(4, connection.createArrayOf("varchar", lastNames));
+        statement.setArray(5, connection.createArrayOf("varchar", avatars));
+        statement.setArray(6, connection.createArrayOf("varchar", emails));
+        statement.setArray(7, connection.createArrayOf("varchar", passwordHashes.toArray()));
+        try (ResultSet resultSet = statement.executeQuery()) {
+          while (resultSet.next()) {
+            inserted.put(resultSet.getString("email"), resultSet.getObject("id", UUID.class));
+          }
+        }
+      }
+      if (!inserted.isEmpty()) {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_USER_ROLES)) {
+          statement.setArray(1, connection.createArrayOf("uuid", inserted.values().toArray()));
+          statement.setObject(2, roleId);
+          statement.executeUpdate();
+        }
+      }
+      return inserted;
+    });
+  }
+
+  private void inviteUsers(List<UserImportRow> rows, Map<String, UUID> userIds) {
+    List<UserImportRow> invited = rows.stream()
+        .filter(row -> row.password() == null && userIds.containsKey(row.email())).toList();
+    if (invited.isEmpty()) {
+      return;
+    }
+    int size = invited.size();
+    UUID[] tokenIds = new UUID[size];
+    Object[] invitedUserIds = new Object[size];
+    Object[] tokenHashes = new Object[size];
+    for (int i = 0; i < size; i++) {
+      tokenIds[i] = UuidV7Generator.nextUuid();
+      invitedUserIds[i] = userIds.get(invited.get(i).email());
+      tokenHashes[i] = passwordResetTokenCodec.hashFor(tokenIds[i]);
+    }
+
+    Timestamp expiresAt = Timestamp.from(Instant.now().plus(inviteExpiration));
+    jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+      try (PreparedStatement statement = connection.prepareStatement(INSERT_INVITE_TOKENS)) {
+        statement.setTimestamp(1, expiresAt);
+        statement.setArray(2, connection.createArrayOf("uuid", tokenIds));
+        statement.setArray(3, connection.createArrayOf("uuid", invitedUserIds));
+        statement.setArray(4, connection.createArrayOf("varchar", tokenHashes));
+        return statement.executeUpdate();
+      }
+    });
+    for (int i = 0; i < size; i++) {
+      UserImportRow row = invited.get(i);
+      emailService.sendInviteEmail(row.email(), row.firstName(), tokenIds[i]);
+    }
+  }
+
+  private UserImportResultDTO result(UserImportRow row, UserImportStatus status, String message) {
+    return new UserImportResultDTO(row.rowNumber(), row.email(), status, message);
+  }
+}
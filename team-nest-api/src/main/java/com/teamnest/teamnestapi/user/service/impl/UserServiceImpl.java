@@ -1,11 +1,15 @@
 package com.teamnest.teamnestapi.user.service.impl;
 
+import java.util.List;
+import java.util.UUID;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.teamnest.teamnestapi.role.entity.Role;
 import com.teamnest.teamnestapi.role.service.RoleService;
+import com.teamnest.teamnestapi.security.dto.AuthPrincipal;
+import com.teamnest.teamnestapi.security.dto.AuthPrincipalRow;
 import com.teamnest.teamnestapi.user.entity.User;
 import com.teamnest.teamnestapi.user.exception.UserAlreadyExistsException;
 import com.teamnest.teamnestapi.user.repository.UserRepository;
@@ -39,9 +43,32 @@ public class UserServiceImpl implements UserService {
         () -> new UsernameNotFoundException("User with email '" + email + "' not found."));
   }
 
+  @Override
+  public AuthPrincipal getAuthPrincipal(String email) throws UsernameNotFoundException {
+    List<AuthPrincipalRow> rows = userRepository.findAuthPrincipalRowsByEmail(email);
+    if (rows.isEmpty()) {
+      throw new UsernameNotFoundException("User with email '" + email + "' not found.");
+    }
+    return AuthPrincipal.fromRows(rows);
+  }
+
+  @Override
+  public User getReferenceById(UUID userId) {
+    return userRepository.getReferenceById(userId);
+  }
+
   @Override
   public User save(User user) {
     return userRepository.save(user);
   }
 
+  @Transactional
+  @Override
+  public boolean upgradePasswordHash(UUID userId, String currentPasswordHash,
+      String newPasswordHash) {
+    // Conditional on the old hash so a concurrent password change is never overwritten
+    return userRepository.updatePasswordIfUnchanged(userId, currentPasswordHash,
+        newPasswordHash) > 0;
+  }
+
 }
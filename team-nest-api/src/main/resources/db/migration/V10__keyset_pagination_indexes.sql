@@ -0,0 +1,6 @@
+-- Keyset pagination seeks on (created_at, id) within a tenant, newest first
+CREATE INDEX idx_roles_tenant_created_at_id ON roles (tenant_id, created_at, id);
+CREATE INDEX idx_users_tenant_created_at_id ON users (tenant_id, created_at, id);
+CREATE INDEX idx_projects_tenant_created_at_id ON projects (tenant_id, created_at, id);
+CREATE INDEX idx_tasks_tenant_created_at_id ON tasks (tenant_id, created_at, id);
+CREATE INDEX idx_permissions_lookup_created_at_id ON permissions_lookup (created_at, id);
@@ -0,0 +1,7 @@
+-- Access tokens revoked before their expiry, shared by every node; kept on the default shard
+CREATE TABLE revoked_access_tokens (
+  token_id VARCHAR(100) PRIMARY KEY,
+  expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_revoked_access_tokens_expires_at ON revoked_access_tokens(expires_at);
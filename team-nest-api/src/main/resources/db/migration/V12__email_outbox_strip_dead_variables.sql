@@ -0,0 +1,2 @@
+-- Dead-lettered messages queued before reset links were derived at send time still hold the link
+UPDATE email_outbox SET template_variables = '{}'::jsonb WHERE delivery_status = 'DEAD';
@@ -0,0 +1,2 @@
+-- PROVISIONING while a tenant's rows are being copied into its schema; writes are refused meanwhile
+ALTER TABLE tenant_schemas ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE';
@@ -0,0 +1 @@
+CREATE INDEX idx_refresh_tokens_active_user ON refresh_tokens (user_id) WHERE revoked_at IS NULL;
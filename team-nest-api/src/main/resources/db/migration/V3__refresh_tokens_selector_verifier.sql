@@ -0,0 +1,7 @@
+ALTER TABLE refresh_tokens ADD COLUMN verifier_hash VARCHAR(64);
+
+-- Legacy tokens keep token_hash until they are rotated or expire; new tokens are found by id
+ALTER TABLE refresh_tokens ALTER COLUMN token_hash DROP NOT NULL;
+ALTER TABLE refresh_tokens DROP CONSTRAINT refresh_tokens_token_hash_key;
+CREATE UNIQUE INDEX idx_refresh_tokens_legacy_token_hash ON refresh_tokens (token_hash)
+  WHERE token_hash IS NOT NULL;
@@ -0,0 +1,3 @@
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
+CREATE INDEX idx_refresh_tokens_revoked_at ON refresh_tokens (revoked_at) WHERE revoked_at IS NOT NULL;
+CREATE INDEX idx_password_reset_tokens_used_at ON password_reset_tokens (used_at) WHERE used_at IS NOT NULL;
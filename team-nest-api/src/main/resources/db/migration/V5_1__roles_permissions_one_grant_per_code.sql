@@ -0,0 +1,16 @@
+-- A role can hold several per-tenant permissions with the same code, which V6 remaps onto one
+-- catalog entry and which then collide on the primary key; keep one grant per role and code.
+-- Runs out of order on databases already past V6, where the permissions table is gone.
+DO $$
+BEGIN
+  IF to_regclass('permissions') IS NOT NULL THEN
+    DELETE FROM roles_permissions rp
+    USING permissions p
+    WHERE rp.permission_id = p.id
+      AND EXISTS (
+        SELECT 1 FROM roles_permissions other
+        JOIN permissions op ON op.id = other.permission_id
+        WHERE other.role_id = rp.role_id AND op.code = p.code
+          AND other.permission_id < rp.permission_id);
+  END IF;
+END $$;
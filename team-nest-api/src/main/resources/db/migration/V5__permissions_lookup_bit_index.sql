@@ -0,0 +1,9 @@
+-- Stable bit positions for the permission bitmask claim; new permissions must take the next free index
+ALTER TABLE permissions_lookup ADD COLUMN bit_index INTEGER;
+
+UPDATE permissions_lookup p SET bit_index = ordered.position
+FROM (SELECT id, row_number() OVER (ORDER BY key) - 1 AS position FROM permissions_lookup) ordered
+WHERE p.id = ordered.id;
+
+ALTER TABLE permissions_lookup ALTER COLUMN bit_index SET NOT NULL;
+ALTER TABLE permissions_lookup ADD CONSTRAINT uk_permissions_lookup_bit_index UNIQUE (bit_index);
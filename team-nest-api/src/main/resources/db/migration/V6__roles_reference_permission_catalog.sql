@@ -0,0 +1,15 @@
+-- Point role grants at the shared permissions_lookup catalog instead of per-tenant copies
+ALTER TABLE roles_permissions DROP CONSTRAINT fk_roles_permissions_permission;
+
+UPDATE roles_permissions rp SET permission_id = pl.id
+FROM permissions p
+JOIN permissions_lookup pl ON pl.key = p.code
+WHERE rp.permission_id = p.id;
+
+DELETE FROM roles_permissions rp
+WHERE NOT EXISTS (SELECT 1 FROM permissions_lookup pl WHERE pl.id = rp.permission_id);
+
+ALTER TABLE roles_permissions ADD CONSTRAINT fk_roles_permissions_permission
+  FOREIGN KEY (permission_id) REFERENCES permissions_lookup(id) ON DELETE CASCADE;
+
+DROP TABLE permissions;
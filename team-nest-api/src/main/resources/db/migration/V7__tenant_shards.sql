@@ -0,0 +1,9 @@
+-- Shard directory: tenants without a row live on the default shard
+CREATE TABLE tenant_shards (
+  tenant_id UUID PRIMARY KEY,
+  shard_key VARCHAR(64) NOT NULL,
+  status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',
+  last_modified_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_tenant_shards_shard_key ON tenant_shards(shard_key);
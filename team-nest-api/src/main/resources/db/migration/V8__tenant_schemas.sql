@@ -0,0 +1,6 @@
+-- Tenants with a dedicated schema for their projects and tasks
+CREATE TABLE tenant_schemas (
+  tenant_id UUID PRIMARY KEY,
+  schema_name VARCHAR(63) NOT NULL UNIQUE,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
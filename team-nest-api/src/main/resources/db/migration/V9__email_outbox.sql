@@ -0,0 +1,18 @@
+CREATE TABLE email_outbox (
+  id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+  recipient VARCHAR(250) NOT NULL,
+  subject VARCHAR(250) NOT NULL,
+  template_name VARCHAR(100) NOT NULL,
+  template_variables JSONB NOT NULL,
+  delivery_status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+  attempts INT NOT NULL DEFAULT 0,
+  next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  last_error VARCHAR(1000),
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  last_modified_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE'
+);
+
+-- The dispatcher only ever scans messages that are still waiting to be sent
+CREATE INDEX idx_email_outbox_pending_next_attempt_at ON email_outbox(next_attempt_at)
+  WHERE delivery_status = 'PENDING';
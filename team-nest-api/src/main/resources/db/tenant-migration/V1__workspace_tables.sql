@@ -0,0 +1,39 @@
+-- Workspace tables for a dedicated tenant schema. Identity tables stay in public and are
+-- reached through the search_path.
+CREATE TABLE projects (
+  id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+  name VARCHAR(250) NOT NULL,
+  description VARCHAR(500),
+  project_status VARCHAR(20) NOT NULL DEFAULT 'TODO',
+  tenant_id UUID NOT NULL,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  last_modified_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE'
+);
+
+CREATE TABLE tasks (
+  id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+  title VARCHAR(250) NOT NULL,
+  description VARCHAR(1000),
+  due_date TIMESTAMP,
+  task_status VARCHAR(20) NOT NULL DEFAULT 'TODO',
+  project_id UUID NOT NULL,
+  assigned_user_id UUID,
+  status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',
+  tenant_id UUID NOT NULL,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  last_modified_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  CONSTRAINT fk_tasks_project FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE,
+  CONSTRAINT fk_tasks_user FOREIGN KEY (assigned_user_id) REFERENCES public.users(id) ON DELETE SET NULL
+);
+
+CREATE TABLE projects_users (
+  project_id UUID NOT NULL,
+  user_id UUID NOT NULL,
+  PRIMARY KEY (project_id, user_id),
+  CONSTRAINT fk_projects_users_project FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE,
+  CONSTRAINT fk_projects_users_user FOREIGN KEY (user_id) REFERENCES public.users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_projects_tenant_id ON projects(tenant_id);
+CREATE INDEX idx_tasks_tenant_id ON tasks(tenant_id);
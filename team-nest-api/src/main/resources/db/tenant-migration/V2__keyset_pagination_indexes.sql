@@ -0,0 +1,3 @@
+-- Keyset pagination seeks on (created_at, id) within a tenant, newest first
+CREATE INDEX idx_projects_tenant_created_at_id ON projects (tenant_id, created_at, id);
+CREATE INDEX idx_tasks_tenant_created_at_id ON tasks (tenant_id, created_at, id);
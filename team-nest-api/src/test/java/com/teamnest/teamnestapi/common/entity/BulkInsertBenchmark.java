@@ -0,0 +1,170 @@
+package com.teamnest.teamnestapi.common.entity;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Bulk inserts into copies of {@code tasks} and the former per-tenant {@code permissions} table,
+ * before and after application-assigned ids. {@code v4-per-row} is what IDENTITY over
+ * {@code gen_random_uuid()} forced: one INSERT ... RETURNING per row. {@code v7-batched} assigns
+ * {@link UuidV7Generator} ids and sends one rewritten JDBC batch. At the end of each trial the
+ * primary key index size per row is printed; random v4 keys split pages all over the index and
+ * leave it less densely packed. Uses the database from {@code SPRING_DATASOURCE_URL}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+  static final int ROWS_PER_BATCH = 500;
+  private static final String SCHEMA = "benchmark_bulk_insert";
+
+  @Param({"tasks", "permissions"})
+  public String table;
+
+  @Param({"v4-per-row", "v7-batched"})
+  public String strategy;
+
+  private HikariDataSource dataSource;
+  private UUID tenantId;
+  private UUID projectId;
+  private long nextRow;
+
+  @Setup
+  public void setUp() throws SQLException {
+    dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl(System.getenv("SPRING_DATASOURCE_URL"));
+    dataSource.setUsername(System.getenv("SPRING_DATASOURCE_USERNAME"));
+    dataSource.setPassword(System.getenv("SPRING_DATASOURCE_PASSWORD"));
+    dataSource.setMaximumPoolSize(1);
+    dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
+    tenantId = UUID.randomUUID();
+    projectId = UUID.randomUUID();
+
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+      statement.execute("DROP TABLE IF EXISTS " + SCHEMA + "." + table);
+      // Copies drop foreign keys so no parent rows are needed; permissions was dropped by V6
+      statement.execute("tasks".equals(table)
+          ? "CREATE TABLE " + SCHEMA + ".tasks (LIKE public.tasks INCLUDING ALL)"
+          : """
+              CREATE TABLE %s.permissions (
+                id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+                name VARCHAR(100) NOT NULL,
+                code VARCHAR(100) NOT NULL,
+                module VARCHAR(100),
+                tenant_id UUID NOT NULL,
+                created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                last_modified_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',
+                UNIQUE (name, tenant_id),
+                UNIQUE (code, tenant_id)
+              )""".formatted(SCHEMA));
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("ANALYZE " + SCHEMA + "." + table);
+      try (ResultSet resultSet = statement.executeQuery("""
+          SELECT c.reltuples::bigint AS row_count, pg_relation_size(i.indexrelid) AS index_bytes
+          FROM pg_index i JOIN pg_class c ON c.oid = i.indrelid
+          WHERE i.indrelid = '%s.%s'::regclass AND i.indisprimary
+          """.formatted(SCHEMA, table))) {
+        resultSet.next();
+        long rowCount = resultSet.getLong("row_count");
+        long indexBytes = resultSet.getLong("index_bytes");
+        System.out.printf("%n%s/%s: %d rows, primary key index %d KiB, %.1f bytes per row%n",
+            table, strategy, rowCount, indexBytes / 1024,
+            rowCount > 0 ? (double) indexBytes / rowCount : 0);
+      }
+      statement.execute("DROP TABLE " + SCHEMA + "." + table);
+    } finally {
+      dataSource.close();
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS_PER_BATCH)
+  public void insertRows() throws SQLException {
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      if ("v7-batched".equals(strategy)) {
+        insertBatched(connection);
+      } else {
+        insertPerRow(connection);
+      }
+      connection.commit();
+    }
+  }
+
+  private void insertPerRow(Connection connection) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(insertSql(false))) {
+      for (int i = 0; i < ROWS_PER_BATCH; i++) {
+        bindRow(statement, 1);
+        try (ResultSet generatedId = statement.executeQuery()) {
+          generatedId.next();
+        }
+      }
+    }
+  }
+
+  private void insertBatched(Connection connection) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(insertSql(true))) {
+      for (int i = 0; i < ROWS_PER_BATCH; i++) {
+        statement.setObject(1, UuidV7Generator.nextUuid());
+        bindRow(statement, 2);
+        statement.addBatch();
+      }
+      statement.executeBatch();
+    }
+  }
+
+  private String insertSql(boolean assignedId) {
+    String columns =
+        "tasks".equals(table) ? "title, project_id, tenant_id" : "name, code, tenant_id";
+    String idColumn = assignedId ? "id, " : "";
+    String idValue = assignedId ? "?, " : "";
+    String returning = assignedId ? "" : " RETURNING id";
+    return "INSERT INTO " + SCHEMA + "." + table + " (" + idColumn + columns + ") VALUES ("
+        + idValue + "?, ?, ?)" + returning;
+  }
+
+  private void bindRow(PreparedStatement statement, int firstIndex) throws SQLException {
+    long row = nextRow++;
+    if ("tasks".equals(table)) {
+      statement.setString(firstIndex, "Task " + row);
+      statement.setObject(firstIndex + 1, projectId);
+    } else {
+      statement.setString(firstIndex, "Permission " + row);
+      statement.setString(firstIndex + 1, "PERMISSION_" + row);
+    }
+    statement.setObject(firstIndex + 2, tenantId);
+  }
+
+}
@@ -0,0 +1,41 @@
+package com.teamnest.teamnestapi.common.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTests {
+
+  @Test
+  void generatesVersion7IdsWithTheRfcVariant() {
+    UUID id = UuidV7Generator.nextUuid();
+
+    assertThat(id.version()).isEqualTo(7);
+    assertThat(id.variant()).isEqualTo(2);
+  }
+
+  @Test
+  void embedsTheCurrentUnixMillis() {
+    long before = System.currentTimeMillis();
+    UUID id = UuidV7Generator.nextUuid();
+    long after = System.currentTimeMillis();
+
+    long timestamp = id.getMostSignificantBits() >>> 16;
+    // The counter may borrow a few milliseconds after a tight loop in another test
+    assertThat(timestamp).isBetween(before, after + 10);
+  }
+
+  @Test
+  void idsFromOneJvmAreStrictlyIncreasingInPostgresUuidOrder() {
+    List<UUID> ids = IntStream.range(0, 10_000).mapToObj(i -> UuidV7Generator.nextUuid()).toList();
+
+    // Postgres compares uuid values as unsigned bytes, so compare the unsigned high bits
+    for (int i = 1; i < ids.size(); i++) {
+      assertThat(Long.compareUnsigned(ids.get(i).getMostSignificantBits(),
+          ids.get(i - 1).getMostSignificantBits())).isPositive();
+    }
+  }
+
+}
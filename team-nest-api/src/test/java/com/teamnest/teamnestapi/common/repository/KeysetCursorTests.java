@@ -0,0 +1,63 @@
+package com.teamnest.teamnestapi.common.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import com.teamnest.teamnestapi.common.entity.PermissionLookup;
+import com.teamnest.teamnestapi.exception.InvalidCursorException;
+
+class KeysetCursorTests {
+
+  @Test
+  void blankCursorStartsAtTheFirstPage() {
+    assertThat(KeysetCursor.decode(null).isInitial()).isTrue();
+    assertThat(KeysetCursor.decode("").isInitial()).isTrue();
+  }
+
+  @Test
+  void nextCursorSeeksPastTheLastRow() {
+    PermissionLookup last = permission(Instant.parse("2025-01-01T10:15:30.123456Z"));
+    Window<PermissionLookup> window = Window.from(
+        List.of(permission(Instant.parse("2025-01-02T00:00:00Z")), last),
+        index -> ScrollPosition.keyset(), true);
+
+    KeysetScrollPosition position = KeysetCursor.decode(KeysetCursor.next(window));
+
+    assertThat(position.isInitial()).isFalse();
+    assertThat(position.getKeys()).containsEntry("createdAt", last.getCreatedAt())
+        .containsEntry("id", last.getId());
+  }
+
+  @Test
+  void lastPageHasNoNextCursor() {
+    Window<PermissionLookup> window = Window.from(List.of(permission(Instant.now())),
+        index -> ScrollPosition.keyset(), false);
+
+    assertThat(KeysetCursor.next(window)).isNull();
+  }
+
+  @Test
+  void rejectsTamperedCursors() {
+    assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+        .isInstanceOf(InvalidCursorException.class);
+  }
+
+  @Test
+  void clampsPageSize() {
+    assertThat(KeysetCursor.size(0)).isEqualTo(1);
+    assertThat(KeysetCursor.size(1000)).isEqualTo(KeysetCursor.MAX_SIZE);
+  }
+
+  private static PermissionLookup permission(Instant createdAt) {
+    PermissionLookup permission = new PermissionLookup();
+    permission.setId(UUID.randomUUID());
+    permission.setCreatedAt(createdAt);
+    return permission;
+  }
+}
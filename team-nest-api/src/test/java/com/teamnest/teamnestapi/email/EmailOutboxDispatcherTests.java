@@ -0,0 +1,164 @@
+package com.teamnest.teamnestapi.email;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.IContext;
+import com.teamnest.teamnestapi.email.entity.EmailDeliveryStatus;
+import com.teamnest.teamnestapi.email.entity.EmailOutboxMessage;
+import com.teamnest.teamnestapi.email.job.EmailOutboxDispatcher;
+import com.teamnest.teamnestapi.email.job.EmailOutboxProperties;
+import com.teamnest.teamnestapi.email.repository.EmailOutboxRepository;
+import com.teamnest.teamnestapi.tenant.shard.TenantShardLookup;
+import com.teamnest.teamnestapi.user.service.PasswordResetTokenCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+
+class EmailOutboxDispatcherTests {
+
+  private final EmailOutboxRepository emailOutboxRepository = mock(EmailOutboxRepository.class);
+  private final JavaMailSender mailSender = mock(JavaMailSender.class);
+  private final TemplateEngine templateEngine = mock(TemplateEngine.class);
+  private final PasswordResetTokenCodec passwordResetTokenCodec =
+      new PasswordResetTokenCodec("test-secret", "https://app.example.com/reset-password");
+  private final EmailOutboxProperties properties = new EmailOutboxProperties();
+  private EmailOutboxDispatcher dispatcher;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    properties.setMaxAttempts(2);
+    when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+    when(templateEngine.process(anyString(), any(IContext.class))).thenReturn("<p>Hello</p>");
+    // Without a routing data source every shard-wide call runs once, unbound
+    TenantShardLookup tenantShardLookup =
+        new TenantShardLookup(mock(ObjectProvider.class), mock(ObjectProvider.class),
+            mock(ObjectProvider.class));
+    dispatcher = new EmailOutboxDispatcher(emailOutboxRepository, mailSender, templateEngine,
+        properties, mock(PlatformTransactionManager.class), tenantShardLookup,
+        passwordResetTokenCodec, "noreply@example.com", new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void tearDown() {
+    dispatcher.destroy();
+  }
+
+  @Test
+  void failedSendIsRetriedThenDeadLettered() {
+    EmailOutboxMessage message = message("a@example.com");
+    when(emailOutboxRepository.lockDue(any(Instant.class), anyInt())).thenReturn(List.of(message));
+    failSendsTo("a@example.com");
+
+    dispatcher.dispatchDue();
+
+    assertThat(message.getAttempts()).isEqualTo(1);
+    assertThat(message.getDeliveryStatus()).isEqualTo(EmailDeliveryStatus.PENDING);
+    assertThat(message.getNextAttemptAt()).isAfter(Instant.now());
+    assertThat(message.getLastError()).isEqualTo("Recipient rejected");
+
+    dispatcher.dispatchDue();
+
+    assertThat(message.getAttempts()).isEqualTo(2);
+    assertThat(message.getDeliveryStatus()).isEqualTo(EmailDeliveryStatus.DEAD);
+    assertThat(message.getTemplateVariables()).isEmpty();
+    verify(emailOutboxRepository, never()).deleteAllByIdInBatch(any());
+  }
+
+  @Test
+  void onlyMessagesReportedAsFailedAreRetried() {
+    EmailOutboxMessage delivered = message("a@example.com");
+    EmailOutboxMessage rejected = message("b@example.com");
+    when(emailOutboxRepository.lockDue(any(Instant.class), anyInt()))
+        .thenReturn(List.of(delivered, rejected));
+    failSendsTo("b@example.com");
+
+    dispatcher.dispatchDue();
+
+    verify(emailOutboxRepository).deleteAllByIdInBatch(List.of(delivered.getId()));
+    verify(emailOutboxRepository).save(rejected);
+    verify(emailOutboxRepository, never()).save(delivered);
+    assertThat(rejected.getLastError()).isEqualTo("Recipient rejected");
+    assertThat(delivered.getLastError()).isNull();
+  }
+
+  @Test
+  void sendFailureWithoutFailedMessagesRetriesTheWholeBatch() {
+    EmailOutboxMessage first = message("a@example.com");
+    EmailOutboxMessage second = message("b@example.com");
+    when(emailOutboxRepository.lockDue(any(Instant.class), anyInt()))
+        .thenReturn(List.of(first, second));
+    doAnswer(invocation -> {
+      throw new MailSendException("Connection reset");
+    }).when(mailSender).send(any(MimeMessage[].class));
+
+    dispatcher.dispatchDue();
+
+    verify(emailOutboxRepository, never()).deleteAllByIdInBatch(any());
+    assertThat(first.getLastError()).isEqualTo("Connection reset");
+    assertThat(second.getLastError()).isEqualTo("Connection reset");
+  }
+
+  @Test
+  void resetLinkIsDerivedFromTheQueuedTokenId() {
+    UUID tokenId = UUID.randomUUID();
+    EmailOutboxMessage message = message("a@example.com");
+    message.getTemplateVariables().put(PasswordResetTokenCodec.TOKEN_ID_VARIABLE,
+        tokenId.toString());
+    when(emailOutboxRepository.lockDue(any(Instant.class), anyInt())).thenReturn(List.of(message));
+
+    dispatcher.dispatchDue();
+
+    ArgumentCaptor<IContext> context = ArgumentCaptor.forClass(IContext.class);
+    verify(templateEngine).process(anyString(), context.capture());
+    assertThat(context.getValue().getVariable("resetUrl"))
+        .isEqualTo(passwordResetTokenCodec.resetUrlFor(tokenId));
+    assertThat(message.getTemplateVariables()).doesNotContainKey("resetUrl");
+  }
+
+  private void failSendsTo(String recipient) {
+    doAnswer(invocation -> {
+      MimeMessage[] sent = (MimeMessage[]) invocation.getRawArguments()[0];
+      for (MimeMessage mimeMessage : sent) {
+        if (mimeMessage.getAllRecipients()[0].equals(new InternetAddress(recipient))) {
+          throw new MailSendException(
+              Map.<Object, Exception>of(mimeMessage, new MessagingException("Recipient rejected")));
+        }
+      }
+      return null;
+    }).when(mailSender).send(any(MimeMessage[].class));
+  }
+
+  private EmailOutboxMessage message(String recipient) {
+    EmailOutboxMessage message = new EmailOutboxMessage();
+    message.setId(UUID.randomUUID());
+    message.setRecipient(recipient);
+    message.setSubject("Subject");
+    message.setTemplateName("welcome-email");
+    message.getTemplateVariables().put("name", "Test");
+    return message;
+  }
+
+}
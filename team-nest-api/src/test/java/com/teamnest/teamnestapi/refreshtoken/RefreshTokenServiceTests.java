@@ -0,0 +1,76 @@
+package com.teamnest.teamnestapi.refreshtoken;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import com.teamnest.teamnestapi.refreshtoken.service.RefreshTokenService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class RefreshTokenServiceTests {
+
+  // The bulk revoke UPDATE and the new token's INSERT; the user is only referenced, not loaded
+  private static final long STATEMENTS_PER_CREATE = 2;
+
+  @Autowired
+  private RefreshTokenService refreshTokenService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Test
+  void createRefreshTokenStatementCountIsIndependentOfActiveTokens() {
+    long withOneToken = statementsToCreateRefreshToken(seedUserWithActiveTokens(1));
+    UUID userWithManyTokens = seedUserWithActiveTokens(50);
+    long withManyTokens = statementsToCreateRefreshToken(userWithManyTokens);
+
+    assertThat(withOneToken).isEqualTo(STATEMENTS_PER_CREATE);
+    assertThat(withManyTokens).isEqualTo(STATEMENTS_PER_CREATE);
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM refresh_tokens WHERE user_id = ? AND revoked_at IS NULL", Long.class,
+        userWithManyTokens)).isEqualTo(1L);
+  }
+
+  private long statementsToCreateRefreshToken(UUID userId) {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    // Ids are assigned up front, so inserts wait for the flush; count exactly this call's
+    entityManager.flush();
+    statistics.clear();
+    refreshTokenService.createRefreshToken(userId);
+    entityManager.flush();
+    return statistics.getPrepareStatementCount();
+  }
+
+  private UUID seedUserWithActiveTokens(int tokenCount) {
+    UUID userId = jdbcTemplate.queryForObject(
+        "INSERT INTO users (first_name, last_name, email, password, tenant_id) "
+            + "VALUES ('Test', 'User', ?, 'hash', ?) RETURNING id",
+        UUID.class, UUID.randomUUID() + "@example.com", UUID.randomUUID());
+    Timestamp expiresAt = Timestamp.from(Instant.now().plus(1, ChronoUnit.DAYS));
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO refresh_tokens (user_id, token_hash, expires_at) VALUES (?, ?, ?)",
+        IntStream.range(0, tokenCount)
+            .mapToObj(i -> new Object[] {userId, UUID.randomUUID().toString(), expiresAt})
+            .toList());
+    return userId;
+  }
+
+}
@@ -0,0 +1,167 @@
+package com.teamnest.teamnestapi.security.permission;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import com.teamnest.teamnestapi.common.entity.PermissionLookup;
+import com.teamnest.teamnestapi.common.service.PermissionLookupService;
+import com.teamnest.teamnestapi.role.dto.RolePermissionRow;
+import com.teamnest.teamnestapi.role.repository.RoleRepository;
+import com.teamnest.teamnestapi.tenant.context.TenantContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Permission checks per second across many tenants whose snapshots are already built. Each
+ * invocation binds one tenant and makes {@link #CHECKS_PER_REQUEST} checks, as a request would.
+ * Run with {@code -prof gc} to confirm the checks themselves do not allocate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class TenantPermissionEvaluatorBenchmark {
+
+  static final int CHECKS_PER_REQUEST = 8;
+  private static final int PERMISSION_COUNT = 96;
+  private static final int ROLES_PER_TENANT = 6;
+  private static final int ROLES_PER_USER = 2;
+  private static final int PERMISSIONS_PER_ROLE = 12;
+
+  @Param({"100", "10000"})
+  public int tenantCount;
+
+  private UUID[] tenantIds;
+  private JwtAuthenticationToken[] authentications;
+  private String[] checkedKeys;
+  private TenantPermissionEvaluator evaluator;
+
+  @Setup
+  public void setUp() {
+    PermissionLookupService permissionLookupService = mock(PermissionLookupService.class);
+    when(permissionLookupService.getAllPermissions()).thenReturn(IntStream
+        .range(0, PERMISSION_COUNT).mapToObj(TenantPermissionEvaluatorBenchmark::permission)
+        .toList());
+    PermissionCatalog permissionCatalog = new PermissionCatalog(permissionLookupService);
+
+    tenantIds = new UUID[tenantCount];
+    authentications = new JwtAuthenticationToken[tenantCount];
+    Map<UUID, List<RolePermissionRow>> rowsByTenant = new HashMap<>();
+    for (int tenant = 0; tenant < tenantCount; tenant++) {
+      UUID tenantId =
+          UUID.nameUUIDFromBytes(("tenant-" + tenant).getBytes(StandardCharsets.UTF_8));
+      List<RolePermissionRow> rows = new ArrayList<>();
+      List<String> userRoleIds = new ArrayList<>();
+      for (int role = 0; role < ROLES_PER_TENANT; role++) {
+        UUID roleId = UUID.nameUUIDFromBytes(
+            (tenantId + "-role-" + role).getBytes(StandardCharsets.UTF_8));
+        for (int permission = 0; permission < PERMISSIONS_PER_ROLE; permission++) {
+          int bitIndex = (tenant + role * PERMISSIONS_PER_ROLE + permission) % PERMISSION_COUNT;
+          rows.add(new Row(roleId, "PERMISSION_" + bitIndex));
+        }
+        if (role < ROLES_PER_USER) {
+          userRoleIds.add(roleId.toString());
+        }
+      }
+      tenantIds[tenant] = tenantId;
+      rowsByTenant.put(tenantId, rows);
+      authentications[tenant] = new JwtAuthenticationToken(Jwt.withTokenValue("token")
+          .header("alg", "none").subject("user-" + tenant)
+          .claim(TenantPermissionEvaluator.ROLE_IDS_CLAIM, userRoleIds).build());
+    }
+
+    RoleRepository roleRepository = mock(RoleRepository.class);
+    when(roleRepository.findRolePermissionRows(any()))
+        .thenAnswer(invocation -> rowsByTenant.get(invocation.<UUID>getArgument(0)));
+    PermissionSnapshotProperties properties = new PermissionSnapshotProperties();
+    properties.setMaximumSize(tenantCount * 2L);
+    properties.setExpireAfterWrite(Duration.ofHours(1));
+    TenantPermissionSnapshots snapshots = new TenantPermissionSnapshots(roleRepository,
+        permissionCatalog, properties, new SimpleMeterRegistry());
+    for (UUID tenantId : tenantIds) {
+      snapshots.get(tenantId);
+    }
+
+    evaluator = new TenantPermissionEvaluator(permissionCatalog, snapshots);
+    checkedKeys = IntStream.range(0, CHECKS_PER_REQUEST)
+        .mapToObj(i -> "PERMISSION_" + i * (PERMISSION_COUNT / CHECKS_PER_REQUEST))
+        .toArray(String[]::new);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(CHECKS_PER_REQUEST)
+  public int checkPermissions(RequestState request) {
+    int tenant = request.nextTenant(tenantCount);
+    JwtAuthenticationToken authentication = authentications[tenant];
+    return TenantContext.callWithTenant(tenantIds[tenant], () -> {
+      int granted = 0;
+      for (String key : checkedKeys) {
+        if (evaluator.hasPermission(authentication, null, key)) {
+          granted++;
+        }
+      }
+      return granted;
+    });
+  }
+
+  private static PermissionLookup permission(int bitIndex) {
+    PermissionLookup permission = new PermissionLookup();
+    permission.setKey("PERMISSION_" + bitIndex);
+    permission.setName("Permission " + bitIndex);
+    permission.setBitIndex(bitIndex);
+    return permission;
+  }
+
+  /**
+   * Walks the tenants round-robin from a per-thread offset so threads do not share a counter.
+   */
+  @State(Scope.Thread)
+  public static class RequestState {
+    private int next = (int) Thread.currentThread().threadId() * 7919;
+
+    int nextTenant(int tenantCount) {
+      next = Math.floorMod(next + 1, tenantCount);
+      return next;
+    }
+  }
+
+  private record Row(UUID roleId, String permissionCode) implements RolePermissionRow {
+
+    @Override
+    public UUID getRoleId() {
+      return roleId;
+    }
+
+    @Override
+    public String getPermissionCode() {
+      return permissionCode;
+    }
+  }
+
+}
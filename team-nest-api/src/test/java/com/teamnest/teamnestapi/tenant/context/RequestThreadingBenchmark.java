@@ -0,0 +1,113 @@
+package com.teamnest.teamnestapi.tenant.context;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Request throughput and latency percentiles with requests handled on a platform thread pool
+ * sized like Tomcat's default versus one virtual thread per request. Each request binds a tenant;
+ * {@code jdbcPercent} of them wait on a Hikari pool and a 5 ms query, the rest only do CPU work.
+ * Uses the database from {@code SPRING_DATASOURCE_URL}. Sample-time mode reports p99.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(400)
+public class RequestThreadingBenchmark {
+
+  private static final int TOMCAT_DEFAULT_MAX_THREADS = 200;
+  private static final int CONNECTION_POOL_SIZE = 10;
+  private static final int TENANT_COUNT = 1_000;
+  private static final String TENANT_QUERY =
+      "SELECT count(*) FROM pg_sleep(0.005) WHERE ?::uuid IS NOT NULL";
+  private static final byte[] RESPONSE_BODY =
+      "{\"data\":\"rendered response\"}".repeat(128).getBytes(StandardCharsets.UTF_8);
+
+  @Param({"platform", "virtual"})
+  public String requestThreads;
+
+  @Param({"20"})
+  public int jdbcPercent;
+
+  private HikariDataSource dataSource;
+  private ExecutorService requestExecutor;
+  private UUID[] tenantIds;
+
+  @Setup
+  public void setUp() {
+    dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl(System.getenv("SPRING_DATASOURCE_URL"));
+    dataSource.setUsername(System.getenv("SPRING_DATASOURCE_USERNAME"));
+    dataSource.setPassword(System.getenv("SPRING_DATASOURCE_PASSWORD"));
+    dataSource.setMaximumPoolSize(CONNECTION_POOL_SIZE);
+    requestExecutor = "virtual".equals(requestThreads)
+        ? Executors.newVirtualThreadPerTaskExecutor()
+        : Executors.newFixedThreadPool(TOMCAT_DEFAULT_MAX_THREADS);
+    tenantIds = new UUID[TENANT_COUNT];
+    for (int i = 0; i < TENANT_COUNT; i++) {
+      tenantIds[i] = UUID.randomUUID();
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    requestExecutor.shutdownNow();
+    dataSource.close();
+  }
+
+  @Benchmark
+  public int handleRequest() throws Exception {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    UUID tenantId = tenantIds[random.nextInt(TENANT_COUNT)];
+    boolean jdbcBound = random.nextInt(100) < jdbcPercent;
+    return requestExecutor.submit(() -> TenantContext.callWithTenant(tenantId,
+        () -> jdbcBound ? query() : render())).get();
+  }
+
+  private int query() throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(TENANT_QUERY)) {
+      statement.setObject(1, TenantContext.getTenantId());
+      try (ResultSet resultSet = statement.executeQuery()) {
+        resultSet.next();
+        return resultSet.getInt(1);
+      }
+    }
+  }
+
+  private int render() throws NoSuchAlgorithmException {
+    MessageDigest digest = MessageDigest.getInstance("SHA-256");
+    for (int i = 0; i < 16; i++) {
+      digest.update(RESPONSE_BODY);
+    }
+    return digest.digest()[0];
+  }
+
+}
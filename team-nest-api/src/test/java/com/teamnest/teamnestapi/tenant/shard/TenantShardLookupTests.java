@@ -0,0 +1,104 @@
+package com.teamnest.teamnestapi.tenant.shard;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Signs in a tenant that lives on the second of two shards. The second shard is a schema of the
+ * test database so that no further database has to be provisioned.
+ */
+@SpringBootTest(properties = "app.tenant.sharding.enabled=true")
+@AutoConfigureMockMvc
+class TenantShardLookupTests {
+
+  private static final String SECOND_SHARD = "second";
+  private static final String SECOND_SHARD_SCHEMA = "shard_second";
+  private static final String PASSWORD = "Secret-pass1";
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private TenantShardDataSources tenantShardDataSources;
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  private JdbcTemplate defaultShard;
+  private JdbcTemplate secondShard;
+  private UUID tenantId;
+  private String email;
+
+  @DynamicPropertySource
+  static void secondShard(DynamicPropertyRegistry registry) throws SQLException {
+    String url = System.getenv("SPRING_DATASOURCE_URL");
+    String username = System.getenv("SPRING_DATASOURCE_USERNAME");
+    String password = System.getenv("SPRING_DATASOURCE_PASSWORD");
+    try (Connection connection = DriverManager.getConnection(url, username, password);
+        Statement statement = connection.createStatement()) {
+      statement.execute("CREATE SCHEMA IF NOT EXISTS " + SECOND_SHARD_SCHEMA);
+    }
+    String prefix = "app.tenant.sharding.shards." + SECOND_SHARD;
+    registry.add(prefix + ".url",
+        () -> url + (url.contains("?") ? "&" : "?") + "currentSchema=" + SECOND_SHARD_SCHEMA);
+    registry.add(prefix + ".username", () -> username);
+    registry.add(prefix + ".password", () -> password);
+  }
+
+  @BeforeEach
+  void seedTenantOnSecondShard() {
+    defaultShard = new JdbcTemplate(tenantShardDataSources.getDefault());
+    secondShard = new JdbcTemplate(tenantShardDataSources.get(SECOND_SHARD));
+    tenantId = UUID.randomUUID();
+    email = tenantId + "@example.com";
+
+    secondShard.update("INSERT INTO tenants (id, name) VALUES (?, ?)", tenantId,
+        "Tenant " + tenantId);
+    secondShard.update("INSERT INTO users (first_name, last_name, email, password, tenant_id) "
+        + "VALUES ('Test', 'User', ?, ?, ?)", email, passwordEncoder.encode(PASSWORD), tenantId);
+    defaultShard.update("INSERT INTO tenant_shards (tenant_id, shard_key) VALUES (?, ?)", tenantId,
+        SECOND_SHARD);
+  }
+
+  @AfterEach
+  void deleteTenant() {
+    secondShard.update("DELETE FROM users WHERE tenant_id = ?", tenantId);
+    secondShard.update("DELETE FROM tenants WHERE id = ?", tenantId);
+    defaultShard.update("DELETE FROM tenant_shards WHERE tenant_id = ?", tenantId);
+  }
+
+  @Test
+  void tenantOnSecondShardCanSignIn() throws Exception {
+    mockMvc.perform(post("/api/v1/auth/login").contentType(MediaType.APPLICATION_JSON)
+        .content("{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.accessToken").isNotEmpty())
+        .andExpect(jsonPath("$.data.refreshToken").isNotEmpty());
+  }
+
+  @Test
+  void wrongPasswordIsRejectedAfterEveryShardWasTried() throws Exception {
+    mockMvc.perform(post("/api/v1/auth/login").contentType(MediaType.APPLICATION_JSON)
+        .content("{\"email\":\"" + email + "\",\"password\":\"wrong-password\"}"))
+        .andExpect(status().isUnauthorized());
+  }
+
+}
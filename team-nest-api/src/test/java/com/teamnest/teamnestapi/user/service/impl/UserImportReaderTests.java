@@ -0,0 +1,131 @@
+package com.teamnest.teamnestapi.user.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamnest.teamnestapi.user.dto.UserImportRow;
+
+class UserImportReaderTests {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void csvHeaderAliasesAndByteOrderMarkAreRecognised() throws IOException {
+    List<UserImportRow> rows = readCsv("\uFEFF" + """
+        E-mail,first_name,LAST NAME,Password,Avatar
+        ada@example.com,Ada,Lovelace,secret,https://example.com/ada.png
+        """);
+
+    assertThat(rows).singleElement().satisfies(row -> {
+      assertThat(row.rowNumber()).isEqualTo(1);
+      assertThat(row.email()).isEqualTo("ada@example.com");
+      assertThat(row.firstName()).isEqualTo("Ada");
+      assertThat(row.lastName()).isEqualTo("Lovelace");
+      assertThat(row.password()).isEqualTo("secret");
+      assertThat(row.avatar()).isEqualTo("https://example.com/ada.png");
+      assertThat(row.error()).isNull();
+    });
+  }
+
+  @Test
+  void csvQuotedFieldsKeepCommasAndEscapedQuotes() throws IOException {
+    List<UserImportRow> rows = readCsv("""
+        email,firstName,lastName
+        "grace@example.com","Grace ""Amazing""","Hopper, Jr."
+        """);
+
+    assertThat(rows).singleElement().satisfies(row -> {
+      assertThat(row.email()).isEqualTo("grace@example.com");
+      assertThat(row.firstName()).isEqualTo("Grace \"Amazing\"");
+      assertThat(row.lastName()).isEqualTo("Hopper, Jr.");
+    });
+  }
+
+  @Test
+  void csvShortRowsLeaveMissingFieldsEmpty() throws IOException {
+    List<UserImportRow> rows = readCsv("""
+        email,firstName,lastName,password
+        alan@example.com,Alan
+
+        """);
+
+    assertThat(rows).singleElement().satisfies(row -> {
+      assertThat(row.email()).isEqualTo("alan@example.com");
+      assertThat(row.firstName()).isEqualTo("Alan");
+      assertThat(row.lastName()).isNull();
+      assertThat(row.password()).isNull();
+      assertThat(row.error()).isNull();
+    });
+  }
+
+  @Test
+  void csvPasswordsAreNotTrimmed() throws IOException {
+    List<UserImportRow> rows = readCsv("""
+        email,firstName,password
+         alan@example.com , Alan ,  pass word\s
+        """);
+
+    assertThat(rows).singleElement().satisfies(row -> {
+      assertThat(row.email()).isEqualTo("alan@example.com");
+      assertThat(row.firstName()).isEqualTo("Alan");
+      assertThat(row.password()).isEqualTo("  pass word ");
+    });
+  }
+
+  @Test
+  void csvWithoutEmailColumnReportsEveryRow() throws IOException {
+    List<UserImportRow> rows = readCsv("""
+        firstName,lastName
+        Ada,Lovelace
+        Grace,Hopper
+        """);
+
+    assertThat(rows).extracting(UserImportRow::error)
+        .containsExactly("CSV header has no email column", "CSV header has no email column");
+  }
+
+  @Test
+  void ndjsonReadsObjectsAndReportsUnreadableLines() throws IOException {
+    List<UserImportRow> rows = readNdjson("""
+        {"email":"ada@example.com","firstName":"Ada","password":" secret "}
+        {"email":
+        ["not", "an", "object"]
+        """);
+
+    assertThat(rows).hasSize(3);
+    assertThat(rows.get(0).email()).isEqualTo("ada@example.com");
+    assertThat(rows.get(0).password()).isEqualTo(" secret ");
+    assertThat(rows.get(0).lastName()).isNull();
+    assertThat(rows.get(1).rowNumber()).isEqualTo(2);
+    assertThat(rows.get(1).error()).isEqualTo("Line is not valid JSON");
+    assertThat(rows.get(2).error()).isEqualTo("Line is not a JSON object");
+  }
+
+  private List<UserImportRow> readCsv(String body) throws IOException {
+    return readAll(UserImportReader.csv(stream(body)));
+  }
+
+  private List<UserImportRow> readNdjson(String body) throws IOException {
+    return readAll(UserImportReader.ndjson(stream(body), objectMapper));
+  }
+
+  private List<UserImportRow> readAll(UserImportReader reader) throws IOException {
+    List<UserImportRow> rows = new ArrayList<>();
+    try (reader) {
+      for (UserImportRow row = reader.next(); row != null; row = reader.next()) {
+        rows.add(row);
+      }
+    }
+    return rows;
+  }
+
+  private ByteArrayInputStream stream(String body) {
+    return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+  }
+
+}